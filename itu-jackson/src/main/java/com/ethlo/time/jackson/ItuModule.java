@@ -0,0 +1,116 @@
+package com.ethlo.time.jackson;
+
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import com.ethlo.time.DateTime;
+import com.ethlo.time.Duration;
+import com.ethlo.time.Field;
+import com.ethlo.time.ITU;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * A Jackson module that reads and writes {@link OffsetDateTime}, {@link Instant}, {@link LocalDate}, {@link DateTime} and {@link Duration} as RFC-3339 strings using Internet Time Utility.
+ * <p>
+ * Values are parsed from the character buffer of the JSON parser, and formatted to a small character buffer kept per thread that is passed to the JSON generator,
+ * without creating intermediate {@link String} instances.
+ * Register it after any other module handling the same types, like <code>JavaTimeModule</code>, for it to take precedence.
+ * <pre>
+ * final ObjectMapper mapper = new ObjectMapper().registerModule(new ItuModule());
+ * </pre>
+ */
+public class ItuModule extends SimpleModule
+{
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The number of fraction digits meaning that only significant digits of the second are written
+     */
+    public static final int SIGNIFICANT_FRACTION_DIGITS = -1;
+
+    /**
+     * Create a module that writes only the significant fraction digits of the second, like <code>java.time</code>
+     */
+    public ItuModule()
+    {
+        this(SIGNIFICANT_FRACTION_DIGITS);
+    }
+
+    /**
+     * Create a module that writes a fixed number of fraction digits of the second for {@link OffsetDateTime} and {@link Instant}
+     *
+     * @param fractionDigits The number of fraction digits, 0 to 9, or {@link #SIGNIFICANT_FRACTION_DIGITS}
+     */
+    public ItuModule(final int fractionDigits)
+    {
+        super("ItuModule", Version.unknownVersion());
+        if (fractionDigits < SIGNIFICANT_FRACTION_DIGITS || fractionDigits > 9)
+        {
+            throw new IllegalArgumentException("fractionDigits must be between 0 and 9, or SIGNIFICANT_FRACTION_DIGITS, was " + fractionDigits);
+        }
+
+        addDeserializer(OffsetDateTime.class, new TextDeserializer<>(OffsetDateTime.class, ITU::parseDateTime));
+        addDeserializer(Instant.class, new TextDeserializer<>(Instant.class, (buf, offset, length) -> ITU.parseDateTime(buf, offset, length).toInstant()));
+        addDeserializer(LocalDate.class, new TextDeserializer<>(LocalDate.class, ItuModule::parseLocalDate));
+        addDeserializer(DateTime.class, new TextDeserializer<>(DateTime.class, ITU::parseLenient));
+        addDeserializer(Duration.class, new TextDeserializer<>(Duration.class, ITU::parseDuration));
+
+        addSerializer(OffsetDateTime.class, new TextSerializer<>(OffsetDateTime.class, (value, target) -> ITU.formatTo(value, fractionDigits(fractionDigits, value.getNano()), target)));
+        addSerializer(Instant.class, new TextSerializer<>(Instant.class, (value, target) -> ITU.formatUtcTo(value.atOffset(ZoneOffset.UTC), fractionDigits(fractionDigits, value.getNano()), target)));
+        addSerializer(LocalDate.class, new TextSerializer<>(LocalDate.class, (value, target) -> DateTime.ofDate(value.getYear(), value.getMonthValue(), value.getDayOfMonth()).formatTo(target)));
+        addSerializer(DateTime.class, new TextSerializer<>(DateTime.class, DateTime::formatTo));
+        addSerializer(Duration.class, new TextSerializer<>(Duration.class, Duration::formatTo));
+    }
+
+    private static LocalDate parseLocalDate(final char[] buf, final int offset, final int length)
+    {
+        final DateTime dateTime = ITU.parseLenient(buf, offset, length);
+        if (dateTime.getMostGranularField() != Field.DAY)
+        {
+            throw new DateTimeException("Expected a date without time: " + new String(buf, offset, length));
+        }
+        return dateTime.toLocalDate();
+    }
+
+    private static int fractionDigits(final int configured, final int nano)
+    {
+        if (configured != SIGNIFICANT_FRACTION_DIGITS || nano == 0)
+        {
+            return Math.max(configured, 0);
+        }
+
+        int digits = 9;
+        int value = nano;
+        while (value % 10 == 0)
+        {
+            value /= 10;
+            digits--;
+        }
+        return digits;
+    }
+}
@@ -0,0 +1,79 @@
+package com.ethlo.time.jackson;
+
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.time.DateTimeException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+
+/**
+ * Deserializes JSON strings by parsing the characters in the buffer of the JSON parser, without creating a {@link String} for valid values.
+ *
+ * @param <T> The type of value
+ */
+class TextDeserializer<T> extends StdScalarDeserializer<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final transient TextParser<T> parser;
+
+    TextDeserializer(final Class<T> type, final TextParser<T> parser)
+    {
+        super(type);
+        this.parser = parser;
+    }
+
+    @Override
+    public T deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException
+    {
+        if (!p.hasToken(JsonToken.VALUE_STRING))
+        {
+            return handleNonString(p, ctxt);
+        }
+
+        try
+        {
+            return parser.parse(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+        }
+        catch (DateTimeException | ArithmeticException exc)
+        {
+            @SuppressWarnings("unchecked") final T result = (T) ctxt.handleWeirdStringValue(handledType(), p.getText(), "%s", exc.getMessage());
+            return result;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T handleNonString(final JsonParser p, final DeserializationContext ctxt) throws IOException
+    {
+        return (T) ctxt.handleUnexpectedToken(handledType(), p);
+    }
+
+    @FunctionalInterface
+    interface TextParser<T>
+    {
+        T parse(char[] buf, int offset, int length);
+    }
+}
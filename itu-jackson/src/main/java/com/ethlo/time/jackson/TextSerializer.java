@@ -0,0 +1,66 @@
+package com.ethlo.time.jackson;
+
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+
+/**
+ * Serializes values by formatting them to a small character buffer kept per thread, which is passed to the generator as a string value without creating a {@link String}.
+ *
+ * @param <T> The type of value
+ */
+class TextSerializer<T> extends StdScalarSerializer<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    // Longest supported value is a duration, like -P15250284452471W3DT15H30M7.999999999S
+    private static final int MAX_LENGTH = 48;
+    private static final ThreadLocal<CharBuffer> BUFFER = ThreadLocal.withInitial(() -> CharBuffer.allocate(MAX_LENGTH));
+
+    private final transient TextFormatter<T> formatter;
+
+    TextSerializer(final Class<T> type, final TextFormatter<T> formatter)
+    {
+        super(type);
+        this.formatter = formatter;
+    }
+
+    @Override
+    public void serialize(final T value, final JsonGenerator gen, final SerializerProvider provider) throws IOException
+    {
+        final CharBuffer buffer = BUFFER.get();
+        buffer.clear();
+        formatter.format(value, buffer);
+        gen.writeString(buffer.array(), 0, buffer.position());
+    }
+
+    @FunctionalInterface
+    interface TextFormatter<T>
+    {
+        void format(T value, Appendable target) throws IOException;
+    }
+}
@@ -0,0 +1,144 @@
+package com.ethlo.time.jackson;
+
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.ethlo.time.DateTime;
+import com.ethlo.time.Duration;
+import com.ethlo.time.ITU;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+
+public class ItuModuleTest
+{
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new ItuModule());
+
+    public static class Event
+    {
+        public OffsetDateTime time;
+        public Instant instant;
+        public LocalDate date;
+        public DateTime lenient;
+        public Duration duration;
+    }
+
+    @Test
+    void roundTrip() throws IOException
+    {
+        final String json = "{\"time\":\"2017-12-09T11:23:39.5+05:30\",\"instant\":\"2017-12-09T11:23:39.123456Z\",\"date\":\"2017-12-09\",\"lenient\":\"2017-12\",\"duration\":\"P1DT2H0.5S\"}";
+        final Event event = mapper.readValue(json, Event.class);
+        assertThat(event.time).isEqualTo(OffsetDateTime.parse("2017-12-09T11:23:39.5+05:30"));
+        assertThat(event.instant).isEqualTo(Instant.parse("2017-12-09T11:23:39.123456Z"));
+        assertThat(event.date).isEqualTo(LocalDate.of(2017, 12, 9));
+        assertThat(event.lenient).isEqualTo(DateTime.ofYearMonth(2017, 12));
+        assertThat(event.duration).isEqualTo(ITU.parseDuration("P1DT2H0.5S"));
+        assertThat(mapper.writeValueAsString(event)).isEqualTo(json);
+    }
+
+    @Test
+    void treeRoundTrip() throws IOException
+    {
+        final String json = "{\"time\":\"2017-12-09T11:23:39.5+05:30\",\"instant\":\"2017-12-09T11:23:39.123456Z\",\"date\":\"2017-12-09\",\"lenient\":\"2017-12\",\"duration\":\"P1DT2H0.5S\"}";
+        final Event event = mapper.readValue(json, Event.class);
+        final JsonNode tree = mapper.valueToTree(event);
+        assertThat(tree.get("time").isTextual()).isTrue();
+        assertThat(tree.get("time").asText()).isEqualTo("2017-12-09T11:23:39.5+05:30");
+        assertThat(tree.get("duration").asText()).isEqualTo("P1DT2H0.5S");
+        assertThat(mapper.writeValueAsString(tree)).isEqualTo(json);
+        assertThat(mapper.writeValueAsString(mapper.treeToValue(tree, Event.class))).isEqualTo(json);
+    }
+
+    @Test
+    void convertValue() throws IOException
+    {
+        final Event event = mapper.readValue("{\"time\":\"2017-12-09T11:23:39Z\",\"lenient\":\"2017-12-09T11:23\"}", Event.class);
+        final Map<?, ?> map = mapper.convertValue(event, Map.class);
+        assertThat(map.get("time")).isEqualTo("2017-12-09T11:23:39Z");
+        assertThat(map.get("lenient")).isEqualTo("2017-12-09T11:23");
+
+        final Event converted = mapper.convertValue(event, Event.class);
+        assertThat(converted.time).isEqualTo(event.time);
+        assertThat(converted.lenient).isEqualTo(event.lenient);
+    }
+
+    @Test
+    void readFromBytes() throws IOException
+    {
+        final byte[] json = "[\"2017-12-09T11:23:39Z\",\"2017-12-09T11:23:40.001Z\"]".getBytes(StandardCharsets.UTF_8);
+        final List<OffsetDateTime> values = mapper.readValue(new ByteArrayInputStream(json), new TypeReference<List<OffsetDateTime>>()
+        {
+        });
+        assertThat(values).containsExactly(ITU.parseDateTime("2017-12-09T11:23:39Z"), ITU.parseDateTime("2017-12-09T11:23:40.001Z"));
+    }
+
+    @Test
+    void writeInArray() throws IOException
+    {
+        final List<Instant> values = Arrays.asList(Instant.ofEpochSecond(0), Instant.ofEpochSecond(1, 100_000_000));
+        assertThat(mapper.writeValueAsString(values)).isEqualTo("[\"1970-01-01T00:00:00Z\",\"1970-01-01T00:00:01.1Z\"]");
+        assertThat(new String(mapper.writeValueAsBytes(values), StandardCharsets.UTF_8)).isEqualTo("[\"1970-01-01T00:00:00Z\",\"1970-01-01T00:00:01.1Z\"]");
+    }
+
+    @Test
+    void writeFixedFractionDigits() throws IOException
+    {
+        final ObjectMapper fixed = new ObjectMapper().registerModule(new ItuModule(3));
+        assertThat(fixed.writeValueAsString(Instant.ofEpochSecond(0))).isEqualTo("\"1970-01-01T00:00:00.000Z\"");
+    }
+
+    @Test
+    void invalidValue()
+    {
+        final InvalidFormatException exc = assertThrows(InvalidFormatException.class, () -> mapper.readValue("\"2017-13-09T11:23:39Z\"", OffsetDateTime.class));
+        assertThat(exc.getValue()).isEqualTo("2017-13-09T11:23:39Z");
+        assertThrows(InvalidFormatException.class, () -> mapper.readValue("\"2017-12-09T11:23:39Z\"", LocalDate.class));
+    }
+
+    @Test
+    void unexpectedToken()
+    {
+        assertThrows(MismatchedInputException.class, () -> mapper.readValue("123", OffsetDateTime.class));
+    }
+
+    @Test
+    void invalidFractionDigits()
+    {
+        assertThrows(IllegalArgumentException.class, () -> new ItuModule(10));
+    }
+}
@@ -20,12 +20,17 @@ package com.ethlo.time;
  * #L%
  */
 
-import static com.ethlo.time.internal.fixed.ITUFormatter.finish;
+import static com.ethlo.time.Duration.NANOS_PER_SECOND;
+import static com.ethlo.time.Duration.SECONDS_PER_DAY;
+import static com.ethlo.time.Duration.SECONDS_PER_HOUR;
+import static com.ethlo.time.Duration.SECONDS_PER_MINUTE;
+import static com.ethlo.time.LeapSecondHandler.LEAP_SECOND_SECONDS;
+import static com.ethlo.time.internal.fixed.ITUFormatter.finishLength;
 import static com.ethlo.time.internal.fixed.ITUParser.DATE_SEPARATOR;
 import static com.ethlo.time.internal.fixed.ITUParser.SEPARATOR_UPPER;
 import static com.ethlo.time.internal.fixed.ITUParser.TIME_SEPARATOR;
-import static com.ethlo.time.internal.util.LeapSecondHandler.LEAP_SECOND_SECONDS;
 
+import java.io.IOException;
 import java.time.DateTimeException;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -35,26 +40,37 @@ import java.time.Month;
 import java.time.OffsetDateTime;
 import java.time.Year;
 import java.time.YearMonth;
-import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoField;
+import java.time.temporal.IsoFields;
 import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalField;
 import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.Comparator;
 import java.util.Objects;
 import java.util.Optional;
 
 import com.ethlo.time.internal.DateTimeFormatException;
+import com.ethlo.time.internal.fixed.ITUFormatter;
 import com.ethlo.time.internal.util.DateTimeMath;
-import com.ethlo.time.internal.util.DefaultLeapSecondHandler;
-import com.ethlo.time.internal.util.LeapSecondHandler;
+import com.ethlo.time.internal.util.ErrorUtil;
 import com.ethlo.time.internal.util.LimitedCharArrayIntegerUtil;
 
 /**
  * Container class for parsed date/date-time data. The {@link #getMostGranularField()} contains the highest granularity field found, like MONTH, MINUTE, SECOND.
  */
-public class DateTime implements TemporalAccessor
+public class DateTime implements TemporalAccessor, Comparable<DateTime>
 {
-    private static final LeapSecondHandler leapSecondHandler = new DefaultLeapSecondHandler();
+    /**
+     * Orders date-times on the point in time they represent, normalizing the timezone offsets. Missing fields are treated like in {@link #toInstant()},
+     * so a date-time without an offset is treated as UTC. Date-times representing the same point in time compare as equal.
+     */
+    public static final Comparator<DateTime> INSTANT_ORDER = DateTime::compareInstant;
+
+    /**
+     * Orders date-times on the local date and time fields, from year to nanoseconds, ignoring the timezone offset.
+     */
+    public static final Comparator<DateTime> FIELD_ORDER = DateTime::compareFields;
+
     private final Field field;
     private final int year;
     private final int month;
@@ -194,9 +210,9 @@ public class DateTime implements TemporalAccessor
         if (second == LEAP_SECOND_SECONDS)
         {
             // Do not fall over trying to parse leap seconds
-            final YearMonth needle = YearMonth.of(year, month);
-            final boolean isValidLeapYearMonth = leapSecondHandler.isValidLeapSecondDate(needle);
-            if (isValidLeapYearMonth || needle.isAfter(leapSecondHandler.getLastKnownLeapSecond()))
+            final LeapSecondHandler leapSecondHandler = LeapSeconds.getHandler();
+            final boolean isValidLeapYearMonth = leapSecondHandler.isValidLeapSecondDate(year, month);
+            if (isValidLeapYearMonth || leapSecondHandler.isAfterLastKnownLeapSecond(year, month))
             {
                 if (offset == null)
                 {
@@ -273,6 +289,183 @@ public class DateTime implements TemporalAccessor
         return Optional.ofNullable(offset);
     }
 
+    /**
+     * Returns a copy with the specified number of seconds added. The granularity and the number of fraction digits are kept.
+     *
+     * @param seconds The seconds to add, may be negative
+     * @return A new instance
+     * @throws DateTimeException If this date-time has no day, or the result cannot be represented with the granularity of this date-time
+     */
+    public DateTime plusSeconds(final long seconds)
+    {
+        return plus(seconds, 0, offset);
+    }
+
+    /**
+     * Returns a copy with the specified number of seconds subtracted. See {@link #plusSeconds(long)}.
+     *
+     * @param seconds The seconds to subtract, may be negative
+     * @return A new instance
+     */
+    public DateTime minusSeconds(final long seconds)
+    {
+        return plusSeconds(Math.negateExact(seconds));
+    }
+
+    /**
+     * Returns a copy with the specified number of minutes added. See {@link #plusSeconds(long)}.
+     *
+     * @param minutes The minutes to add, may be negative
+     * @return A new instance
+     */
+    public DateTime plusMinutes(final long minutes)
+    {
+        return plusSeconds(Math.multiplyExact(minutes, SECONDS_PER_MINUTE));
+    }
+
+    /**
+     * Returns a copy with the specified number of minutes subtracted. See {@link #plusSeconds(long)}.
+     *
+     * @param minutes The minutes to subtract, may be negative
+     * @return A new instance
+     */
+    public DateTime minusMinutes(final long minutes)
+    {
+        return plusMinutes(Math.negateExact(minutes));
+    }
+
+    /**
+     * Returns a copy with the specified number of hours added. See {@link #plusSeconds(long)}.
+     *
+     * @param hours The hours to add, may be negative
+     * @return A new instance
+     */
+    public DateTime plusHours(final long hours)
+    {
+        return plusSeconds(Math.multiplyExact(hours, SECONDS_PER_HOUR));
+    }
+
+    /**
+     * Returns a copy with the specified number of hours subtracted. See {@link #plusSeconds(long)}.
+     *
+     * @param hours The hours to subtract, may be negative
+     * @return A new instance
+     */
+    public DateTime minusHours(final long hours)
+    {
+        return plusHours(Math.negateExact(hours));
+    }
+
+    /**
+     * Returns a copy with the specified number of days added. See {@link #plusSeconds(long)}.
+     *
+     * @param days The days to add, may be negative
+     * @return A new instance
+     */
+    public DateTime plusDays(final long days)
+    {
+        return plusSeconds(Math.multiplyExact(days, SECONDS_PER_DAY));
+    }
+
+    /**
+     * Returns a copy with the specified number of days subtracted. See {@link #plusSeconds(long)}.
+     *
+     * @param days The days to subtract, may be negative
+     * @return A new instance
+     */
+    public DateTime minusDays(final long days)
+    {
+        return plusDays(Math.negateExact(days));
+    }
+
+    /**
+     * Returns a copy with the duration added. See {@link #plusSeconds(long)}.
+     *
+     * @param duration The duration to add
+     * @return A new instance
+     */
+    public DateTime plus(final Duration duration)
+    {
+        return plus(duration.getSeconds(), duration.getNanos(), offset);
+    }
+
+    /**
+     * Returns a copy with the duration subtracted. See {@link #plusSeconds(long)}.
+     *
+     * @param duration The duration to subtract
+     * @return A new instance
+     */
+    public DateTime minus(final Duration duration)
+    {
+        return plus(Math.negateExact(duration.getSeconds()), -duration.getNanos(), offset);
+    }
+
+    /**
+     * Returns a copy with the specified number of months added. Like {@link java.time.LocalDate#plusMonths(long)}, the day of month is adjusted to the last
+     * valid day of the resulting month if needed. The granularity and the number of fraction digits are kept.
+     *
+     * @param months The months to add, may be negative
+     * @return A new instance
+     * @throws DateTimeException If this date-time has no month, or the resulting year is out of range
+     */
+    public DateTime plusMonths(final long months)
+    {
+        assertMinGranularity(Field.MONTH);
+        final long total = Math.addExact(year * 12L + (month - 1), months);
+        final int newYear = Math.toIntExact(Math.floorDiv(total, 12));
+        final int newMonth = (int) Math.floorMod(total, 12) + 1;
+        final int newDay = includesGranularity(Field.DAY) ? Math.min(day, DateTimeMath.lengthOfMonth(newYear, newMonth)) : day;
+        return new DateTime(field, newYear, newMonth, newDay, hour, minute, second, nano, offset, fractionDigits);
+    }
+
+    /**
+     * Returns a copy with the specified number of months subtracted. See {@link #plusMonths(long)}.
+     *
+     * @param months The months to subtract, may be negative
+     * @return A new instance
+     */
+    public DateTime minusMonths(final long months)
+    {
+        return plusMonths(Math.negateExact(months));
+    }
+
+    /**
+     * Returns a copy representing the same point in time, with the specified timezone offset. The granularity and the number of fraction digits are kept.
+     *
+     * @param newOffset The timezone offset of the result
+     * @return A new instance
+     * @throws DateTimeException If this date-time has no timezone offset
+     */
+    public DateTime withOffset(final TimezoneOffset newOffset)
+    {
+        Objects.requireNonNull(newOffset, "offset cannot be null");
+        if (offset == null)
+        {
+            throw new DateTimeException("No timezone offset to convert from: " + this);
+        }
+        return plus(newOffset.getTotalSeconds() - offset.getTotalSeconds(), 0, newOffset);
+    }
+
+    private DateTime plus(final long seconds, final long nanos, final TimezoneOffset resultOffset)
+    {
+        assertMinGranularity(Field.DAY);
+        final long nanoSum = nano + nanos;
+        final long secondOfDay = Math.addExact(hour * SECONDS_PER_HOUR + minute * SECONDS_PER_MINUTE + second, Math.addExact(seconds, Math.floorDiv(nanoSum, NANOS_PER_SECOND)));
+        final long date = DateTimeMath.civilFromDays(Math.addExact(DateTimeMath.daysFromCivil(year, month, day), Math.floorDiv(secondOfDay, SECONDS_PER_DAY)));
+        final int newSecondOfDay = (int) Math.floorMod(secondOfDay, SECONDS_PER_DAY);
+        final int newHour = newSecondOfDay / 3_600;
+        final int newMinute = (newSecondOfDay / 60) % 60;
+        final int newSecond = newSecondOfDay % 60;
+        final int newNano = (int) Math.floorMod(nanoSum, NANOS_PER_SECOND);
+        if ((!includesGranularity(Field.NANO) && newNano != 0)
+                || (!includesGranularity(Field.SECOND) && newSecond != 0)
+                || (!includesGranularity(Field.MINUTE) && (newHour | newMinute) != 0))
+        {
+            throw new DateTimeException("The result cannot be represented with granularity " + field.name() + ": " + this);
+        }
+        return new DateTime(field, Math.toIntExact(DateTimeMath.packedYear(date)), DateTimeMath.packedMonth(date), DateTimeMath.packedDay(date), newHour, newMinute, newSecond, newNano, resultOffset, fractionDigits);
+    }
+
     /**
      * Creates a {@link Year} discarding any higher granularity fields
      *
@@ -318,7 +511,7 @@ public class DateTime implements TemporalAccessor
             return OffsetDateTime.of(year, month, day, hour, minute, second, nano, offset.toZoneOffset());
         }
         final String chars = toString();
-        throw new DateTimeParseException("No timezone information: " + chars, chars, chars.length());
+        throw ErrorUtil.parseError(chars, chars.length(), "No timezone information: %s", chars);
     }
 
     /**
@@ -358,7 +551,8 @@ public class DateTime implements TemporalAccessor
      */
     public String toString(final Field lastIncluded)
     {
-        return toString(this, lastIncluded, 0);
+        final char[] buffer = ITUFormatter.buffer();
+        return new String(buffer, 0, write(this, lastIncluded, 0, buffer));
     }
 
     /**
@@ -369,23 +563,104 @@ public class DateTime implements TemporalAccessor
      */
     public String toString(final int fractionDigits)
     {
-        return toString(this, Field.NANO, fractionDigits);
+        final char[] buffer = ITUFormatter.buffer();
+        return new String(buffer, 0, write(this, Field.NANO, fractionDigits, buffer));
+    }
+
+    /**
+     * Formats this date-time like {@link #toString()}, appending the characters to the target
+     * <p>
+     * No String is created. The characters are written to a small buffer kept per thread, and copied to the target with a single bulk append where the
+     * target allows it.
+     *
+     * @param target The target to append to
+     */
+    public void formatTo(final StringBuilder target)
+    {
+        final char[] buffer = ITUFormatter.buffer();
+        target.append(buffer, 0, write(buffer));
+    }
+
+    /**
+     * Formats this date-time like {@link #toString()}, appending the characters to the target
+     *
+     * @param target The target to append to
+     * @throws IOException If the target fails
+     */
+    public void formatTo(final Appendable target) throws IOException
+    {
+        final char[] buffer = ITUFormatter.buffer();
+        ITUFormatter.appendTo(target, buffer, write(buffer));
     }
 
-    private String toString(final DateTime date, final Field lastIncluded, final int fractionDigits)
+    /**
+     * Formats this date-time like {@link #toString(Field)}, appending the characters to the target
+     *
+     * @param target       The target to append to
+     * @param lastIncluded The last specified field to include
+     */
+    public void formatTo(final StringBuilder target, final Field lastIncluded)
+    {
+        final char[] buffer = ITUFormatter.buffer();
+        target.append(buffer, 0, write(this, lastIncluded, 0, buffer));
+    }
+
+    /**
+     * Formats this date-time like {@link #toString(Field)}, appending the characters to the target
+     *
+     * @param target       The target to append to
+     * @param lastIncluded The last specified field to include
+     * @throws IOException If the target fails
+     */
+    public void formatTo(final Appendable target, final Field lastIncluded) throws IOException
+    {
+        final char[] buffer = ITUFormatter.buffer();
+        ITUFormatter.appendTo(target, buffer, write(this, lastIncluded, 0, buffer));
+    }
+
+    /**
+     * Formats this date-time like {@link #toString(int)}, appending the characters to the target
+     *
+     * @param target         The target to append to
+     * @param fractionDigits The number of fractions to include
+     */
+    public void formatTo(final StringBuilder target, final int fractionDigits)
+    {
+        final char[] buffer = ITUFormatter.buffer();
+        target.append(buffer, 0, write(this, Field.NANO, fractionDigits, buffer));
+    }
+
+    /**
+     * Formats this date-time like {@link #toString(int)}, appending the characters to the target
+     *
+     * @param target         The target to append to
+     * @param fractionDigits The number of fractions to include
+     * @throws IOException If the target fails
+     */
+    public void formatTo(final Appendable target, final int fractionDigits) throws IOException
+    {
+        final char[] buffer = ITUFormatter.buffer();
+        ITUFormatter.appendTo(target, buffer, write(this, Field.NANO, fractionDigits, buffer));
+    }
+
+    private int write(final char[] buffer)
+    {
+        return fractionDigits > 0 ? write(this, Field.NANO, fractionDigits, buffer) : write(this, field, 0, buffer);
+    }
+
+    private static int write(final DateTime date, final Field lastIncluded, final int fractionDigits, final char[] buffer)
     {
         if (lastIncluded.ordinal() > date.getMostGranularField().ordinal())
         {
             throw new DateTimeFormatException(String.format("Requested granularity was %s, but contains only granularity %s", lastIncluded.name(), date.getMostGranularField().name()));
         }
-        final TimezoneOffset tz = date.getOffset().orElse(null);
-        final char[] buffer = new char[35];
+        final TimezoneOffset tz = date.offset;
 
         // YEAR
         LimitedCharArrayIntegerUtil.toString(date.getYear(), buffer, 0, 4);
         if (lastIncluded == Field.YEAR)
         {
-            return finish(buffer, Field.YEAR.getRequiredLength(), null);
+            return finishLength(buffer, Field.YEAR.getRequiredLength(), null);
         }
 
         // MONTH
@@ -396,7 +671,7 @@ public class DateTime implements TemporalAccessor
         }
         if (lastIncluded == Field.MONTH)
         {
-            return finish(buffer, Field.MONTH.getRequiredLength(), null);
+            return finishLength(buffer, Field.MONTH.getRequiredLength(), null);
         }
 
         // DAY
@@ -407,7 +682,7 @@ public class DateTime implements TemporalAccessor
         }
         if (lastIncluded == Field.DAY)
         {
-            return finish(buffer, Field.DAY.getRequiredLength(), null);
+            return finishLength(buffer, Field.DAY.getRequiredLength(), null);
         }
 
         // HOUR
@@ -418,7 +693,7 @@ public class DateTime implements TemporalAccessor
         }
         if (lastIncluded == Field.HOUR)
         {
-            return finish(buffer, Field.HOUR.getRequiredLength(), tz);
+            return finishLength(buffer, Field.HOUR.getRequiredLength(), tz);
         }
 
         // MINUTE
@@ -429,7 +704,7 @@ public class DateTime implements TemporalAccessor
         }
         if (lastIncluded == Field.MINUTE)
         {
-            return finish(buffer, Field.MINUTE.getRequiredLength(), tz);
+            return finishLength(buffer, Field.MINUTE.getRequiredLength(), tz);
         }
 
         // SECOND
@@ -440,7 +715,7 @@ public class DateTime implements TemporalAccessor
         }
         if (lastIncluded == Field.SECOND)
         {
-            return finish(buffer, Field.SECOND.getRequiredLength(), tz);
+            return finishLength(buffer, Field.SECOND.getRequiredLength(), tz);
         }
 
         // Fractions
@@ -449,7 +724,7 @@ public class DateTime implements TemporalAccessor
             buffer[19] = '.';
             LimitedCharArrayIntegerUtil.toString(date.getNano(), buffer, 20, fractionDigits);
         }
-        return finish(buffer, 19 + (fractionDigits > 0 ? 1 : 0) + fractionDigits, tz);
+        return finishLength(buffer, 19 + (fractionDigits > 0 ? 1 : 0) + fractionDigits, tz);
     }
 
     /**
@@ -500,63 +775,220 @@ public class DateTime implements TemporalAccessor
     @Override
     public int hashCode()
     {
-        return Objects.hash(field.ordinal(), year, month, day, hour, minute, second, nano, offset, fractionDigits);
+        // Same value as Objects.hash(field.ordinal(), year, month, day, hour, minute, second, nano, offset, fractionDigits), without boxing
+        int result = 31 + field.ordinal();
+        result = 31 * result + year;
+        result = 31 * result + month;
+        result = 31 * result + day;
+        result = 31 * result + hour;
+        result = 31 * result + minute;
+        result = 31 * result + second;
+        result = 31 * result + nano;
+        result = 31 * result + (offset != null ? offset.hashCode() : 0);
+        return 31 * result + fractionDigits;
     }
 
+    /**
+     * Compares this date-time to another, first on the point in time and then on the fields, see {@link #INSTANT_ORDER} and {@link #FIELD_ORDER}.
+     * Remaining ties are ordered by granularity, number of fraction digits and timezone offset, with no offset first. This ordering is consistent with {@link #equals(Object)}.
+     *
+     * @param other The other date-time
+     * @return A negative value, zero, or a positive value if this date-time is less than, equal to, or greater than the other
+     */
     @Override
-    public boolean isSupported(final TemporalField field)
+    public int compareTo(final DateTime other)
     {
-        if (field == ChronoField.NANO_OF_DAY)
+        int result = compareInstant(this, other);
+        if (result == 0)
         {
-            return true;
+            result = compareFields(this, other);
+        }
+        if (result == 0)
+        {
+            result = Integer.compare(field.ordinal(), other.field.ordinal());
+        }
+        if (result == 0)
+        {
+            result = Integer.compare(fractionDigits, other.fractionDigits);
+        }
+        if (result == 0 && offset != other.offset)
+        {
+            result = offset == null ? -1 : other.offset == null ? 1 : Integer.compare(offset.getTotalSeconds(), other.offset.getTotalSeconds());
         }
-        final Field f = Field.of(field);
-        return f.ordinal() <= this.field.ordinal();
+        return result;
     }
 
-    @Override
-    public long getLong(final TemporalField temporalField)
+    private static int compareInstant(final DateTime a, final DateTime b)
+    {
+        final int result = Long.compare(a.toEpochSeconds(), b.toEpochSeconds());
+        return result != 0 ? result : Integer.compare(a.nano, b.nano);
+    }
+
+    private static int compareFields(final DateTime a, final DateTime b)
     {
-        if (temporalField.equals(ChronoField.YEAR))
+        int result = Integer.compare(a.year, b.year);
+        if (result == 0)
         {
-            return year;
+            result = Integer.compare(a.month, b.month);
         }
-        else if (temporalField.equals(ChronoField.MONTH_OF_YEAR))
+        if (result == 0)
         {
-            return month;
+            result = Integer.compare(a.day, b.day);
         }
-        else if (temporalField.equals(ChronoField.DAY_OF_MONTH))
+        if (result == 0)
         {
-            return day;
+            result = Integer.compare(a.hour, b.hour);
         }
-        else if (temporalField.equals(ChronoField.HOUR_OF_DAY))
+        if (result == 0)
         {
-            return hour;
+            result = Integer.compare(a.minute, b.minute);
         }
-        else if (temporalField.equals(ChronoField.MINUTE_OF_HOUR))
+        if (result == 0)
         {
-            return minute;
+            result = Integer.compare(a.second, b.second);
         }
-        else if (temporalField.equals(ChronoField.SECOND_OF_MINUTE))
+        return result != 0 ? result : Integer.compare(a.nano, b.nano);
+    }
+
+    @Override
+    public boolean isSupported(final TemporalField field)
+    {
+        if (field instanceof ChronoField)
         {
-            return second;
+            final Field required = requiredField((ChronoField) field);
+            return required != null && includesGranularity(required);
         }
-        else if (temporalField.equals(ChronoField.NANO_OF_SECOND))
+        else if (field == IsoFields.WEEK_OF_WEEK_BASED_YEAR || field == IsoFields.WEEK_BASED_YEAR)
         {
-            return nano;
+            return includesGranularity(Field.DAY);
         }
-        else if (temporalField.equals(ChronoField.NANO_OF_DAY))
+        return field != null && field.isSupportedBy(this);
+    }
+
+    private static Field requiredField(final ChronoField field)
+    {
+        switch (field)
         {
-            return (hour * 3600L + minute * 60L + second) * 1000_000_000 + nano;
+            case YEAR:
+            case NANO_OF_DAY:
+                return Field.YEAR;
+
+            case MONTH_OF_YEAR:
+            case PROLEPTIC_MONTH:
+                return Field.MONTH;
+
+            case DAY_OF_MONTH:
+            case DAY_OF_WEEK:
+            case DAY_OF_YEAR:
+            case EPOCH_DAY:
+            case ALIGNED_WEEK_OF_MONTH:
+            case ALIGNED_WEEK_OF_YEAR:
+            case ALIGNED_DAY_OF_WEEK_IN_MONTH:
+            case ALIGNED_DAY_OF_WEEK_IN_YEAR:
+                return Field.DAY;
+
+            case HOUR_OF_DAY:
+                return Field.HOUR;
+
+            case MINUTE_OF_HOUR:
+            case MINUTE_OF_DAY:
+                return Field.MINUTE;
+
+            case SECOND_OF_MINUTE:
+            case SECOND_OF_DAY:
+                return Field.SECOND;
+
+            case NANO_OF_SECOND:
+                return Field.NANO;
+
+            default:
+                return null;
         }
-        else if (temporalField.equals(ChronoField.INSTANT_SECONDS))
+    }
+
+    @Override
+    public long getLong(final TemporalField temporalField)
+    {
+        if (temporalField instanceof ChronoField)
         {
-            return toEpochSeconds();
+            switch ((ChronoField) temporalField)
+            {
+                case YEAR:
+                    return year;
+                case MONTH_OF_YEAR:
+                    return month;
+                case DAY_OF_MONTH:
+                    return day;
+                case HOUR_OF_DAY:
+                    return hour;
+                case MINUTE_OF_HOUR:
+                    return minute;
+                case SECOND_OF_MINUTE:
+                    return second;
+                case NANO_OF_SECOND:
+                    return nano;
+                case NANO_OF_DAY:
+                    return (hour * 3600L + minute * 60L + second) * 1000_000_000 + nano;
+                case INSTANT_SECONDS:
+                    return toEpochSeconds();
+                default:
+                    return getDerived(temporalField);
+            }
+        }
+        else if (temporalField == IsoFields.WEEK_OF_WEEK_BASED_YEAR || temporalField == IsoFields.WEEK_BASED_YEAR)
+        {
+            assertSupported(temporalField);
+            final int dayOfYear = DateTimeMath.dayOfYear(year, month, day);
+            final int dayOfWeek = DateTimeMath.dayOfWeek(DateTimeMath.daysFromCivil(year, month, day));
+            return temporalField == IsoFields.WEEK_OF_WEEK_BASED_YEAR
+                    ? DateTimeMath.weekOfWeekBasedYear(year, dayOfYear, dayOfWeek)
+                    : DateTimeMath.weekBasedYear(year, dayOfYear, dayOfWeek);
+        }
+        else if (temporalField != null)
+        {
+            return temporalField.getFrom(this);
         }
 
         throw new UnsupportedTemporalTypeException("Unsupported field: " + temporalField);
     }
 
+    private long getDerived(final TemporalField temporalField)
+    {
+        assertSupported(temporalField);
+        switch ((ChronoField) temporalField)
+        {
+            case PROLEPTIC_MONTH:
+                return year * 12L + month - 1;
+            case DAY_OF_WEEK:
+                return DateTimeMath.dayOfWeek(DateTimeMath.daysFromCivil(year, month, day));
+            case DAY_OF_YEAR:
+                return DateTimeMath.dayOfYear(year, month, day);
+            case EPOCH_DAY:
+                return DateTimeMath.daysFromCivil(year, month, day);
+            case ALIGNED_WEEK_OF_MONTH:
+                return (day - 1) / 7 + 1;
+            case ALIGNED_WEEK_OF_YEAR:
+                return (DateTimeMath.dayOfYear(year, month, day) - 1) / 7 + 1;
+            case ALIGNED_DAY_OF_WEEK_IN_MONTH:
+                return (day - 1) % 7 + 1;
+            case ALIGNED_DAY_OF_WEEK_IN_YEAR:
+                return (DateTimeMath.dayOfYear(year, month, day) - 1) % 7 + 1;
+            case MINUTE_OF_DAY:
+                return hour * 60L + minute;
+            default:
+                // SECOND_OF_DAY, as anything else is rejected above
+                return hour * 3600L + minute * 60L + second;
+        }
+    }
+
+    private void assertSupported(final TemporalField temporalField)
+    {
+        if (!isSupported(temporalField))
+        {
+            throw new UnsupportedTemporalTypeException("Unsupported field: " + temporalField);
+        }
+    }
+
     /**
      * <p>This method will attempt to create an Instant from whatever granularity is available in the parsed year/date/date-time.</p>
      * <p>Missing fields will be replaced by their lowest allowed value: 1 for month and day, 0 for any missing time component.</p>
@@ -579,8 +1011,9 @@ public class DateTime implements TemporalAccessor
 
     private void validated()
     {
-        if (field.ordinal() >= Field.DAY.ordinal())
+        if (field.ordinal() >= Field.DAY.ordinal() && !isValidDate(year, month, day))
         {
+            // Let java.time report the problem
             //noinspection ResultOfMethodCallIgnored
             LocalDate.of(year, month, day);
         }
@@ -591,6 +1024,11 @@ public class DateTime implements TemporalAccessor
         }
     }
 
+    private static boolean isValidDate(final int year, final int month, final int day)
+    {
+        return year >= Year.MIN_VALUE && year <= Year.MAX_VALUE && month >= 1 && month <= 12 && day >= 1 && day <= DateTimeMath.lengthOfMonth(year, month);
+    }
+
     public int getParseLength()
     {
         return charLength;
@@ -39,4 +39,24 @@ public interface DateTimeParser
     {
         return parse(text, new ParsePosition(0));
     }
+
+    /**
+     * Parse the text from the given position of the parsePosition, without copying it to a {@link String} if the implementation supports it.
+     * <p>
+     * To parse a slice of a <code>char[]</code> in place, wrap it with {@link java.nio.CharBuffer#wrap(char[], int, int)}. Positions are then relative to the start of the slice.
+     *
+     * @param text          The text to parse
+     * @param parsePosition The position in which to start
+     * @return A DateTime holding the parsed data
+     * @throws DateTimeException If the data is not according to the format specified
+     */
+    default DateTime parse(CharSequence text, ParsePosition parsePosition) throws DateTimeException
+    {
+        return parse(text.toString(), parsePosition);
+    }
+
+    default DateTime parse(CharSequence text) throws DateTimeException
+    {
+        return parse(text, new ParsePosition(0));
+    }
 }
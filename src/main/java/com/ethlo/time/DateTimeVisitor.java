@@ -0,0 +1,55 @@
+package com.ethlo.time;
+
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Visitor for flexibly dealing with different granularity date/date-times, receiving the fields as primitive values.
+ * <p>
+ * Unlike {@link TemporalHandler}, no <code>java.time</code> objects are created to pass the values, so inputs of mixed granularity can be dispatched and validated without allocation.
+ * Fields beyond the granularity of the input are 0.
+ *
+ * @param <T> The return type of the visitor
+ */
+@FunctionalInterface
+public interface DateTimeVisitor<T>
+{
+    /**
+     * The offset passed when the input has no timezone offset
+     */
+    int NO_OFFSET = Integer.MIN_VALUE;
+
+    /**
+     * Receives the fields of a parsed date/date-time
+     *
+     * @param granularity   The most granular field of the input
+     * @param year          The year
+     * @param month         The month of the year, from 1 to 12
+     * @param day           The day of the month, from 1 to 31
+     * @param hour          The hour of the day, from 0 to 23
+     * @param minute        The minute of the hour, from 0 to 59
+     * @param second        The second of the minute, from 0 to 59
+     * @param nano          The nanoseconds of the second
+     * @param offsetSeconds The timezone offset in seconds, or {@link #NO_OFFSET}
+     * @return The result of the visitor
+     */
+    T visit(Field granularity, int year, int month, int day, int hour, int minute, int second, int nano, int offsetSeconds);
+}
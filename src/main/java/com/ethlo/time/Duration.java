@@ -20,10 +20,12 @@ package com.ethlo.time;
  * #L%
  */
 
+import java.io.IOException;
 import java.time.Instant;
 import java.util.Comparator;
 import java.util.Objects;
 
+import com.ethlo.time.internal.fixed.ITUFormatter;
 import com.ethlo.time.internal.util.DurationFormatter;
 
 /**
@@ -197,6 +199,31 @@ public class Duration implements Comparable<Duration>
         return DurationFormatter.normalizeDuration(this);
     }
 
+    /**
+     * Appends the normalized string representation of this duration to the target
+     * <p>
+     * No String is created. The characters are written to a small buffer kept per thread, and copied to the target with a single bulk append where the
+     * target allows it.
+     *
+     * @param target The target to append to
+     */
+    public void formatTo(final StringBuilder target)
+    {
+        DurationFormatter.normalizeDuration(this, target);
+    }
+
+    /**
+     * Appends the normalized string representation of this duration to the target
+     *
+     * @param target The target to append to
+     * @throws IOException If the target fails
+     */
+    public void formatTo(final Appendable target) throws IOException
+    {
+        final char[] buffer = ITUFormatter.buffer();
+        ITUFormatter.appendTo(target, buffer, DurationFormatter.normalizeDuration(this, buffer));
+    }
+
     /**
      * Computes an {@link Instant} that represents this duration on the timeline from now
      *
@@ -21,9 +21,11 @@ package com.ethlo.time;
  */
 
 import com.ethlo.time.internal.ItuDurationParser;
+import com.ethlo.time.internal.fixed.ITUComparator;
 import com.ethlo.time.internal.fixed.ITUFormatter;
 import com.ethlo.time.internal.fixed.ITUParser;
 
+import java.io.IOException;
 import java.text.ParsePosition;
 import java.time.*;
 
@@ -32,6 +34,19 @@ import java.time.*;
  */
 public class ITU
 {
+    private static final DateTimeVisitor<TemporalType> TEMPORAL_TYPE = (granularity, year, month, day, hour, minute, second, nano, offsetSeconds) ->
+    {
+        if (granularity.ordinal() >= Field.MINUTE.ordinal())
+        {
+            return offsetSeconds != DateTimeVisitor.NO_OFFSET ? TemporalType.OFFSET_DATE_TIME : TemporalType.LOCAL_DATE_TIME;
+        }
+        else if (granularity == Field.DAY)
+        {
+            return TemporalType.LOCAL_DATE;
+        }
+        return granularity == Field.MONTH ? TemporalType.YEAR_MONTH : TemporalType.YEAR;
+    };
+
     private ITU()
     {
     }
@@ -47,6 +62,30 @@ public class ITU
         return ITUParser.parseDateTime(text, 0);
     }
 
+    /**
+     * Parse an RFC-3339 formatted date-time to an {@link OffsetDateTime}, reading the characters in place
+     *
+     * @param text The text to parse
+     * @return The date and time parsed
+     */
+    public static OffsetDateTime parseDateTime(CharSequence text)
+    {
+        return ITUParser.parseDateTime(text, 0);
+    }
+
+    /**
+     * Parse an RFC-3339 formatted date-time to an {@link OffsetDateTime}, reading the characters in place. Error positions are relative to <code>offset</code>.
+     *
+     * @param buf    The buffer holding the text
+     * @param offset The start of the text in the buffer
+     * @param length The length of the text
+     * @return The date and time parsed
+     */
+    public static OffsetDateTime parseDateTime(char[] buf, int offset, int length)
+    {
+        return ITUParser.parseDateTime(buf, offset, length);
+    }
+
     /**
      * Parses a duration string, a strict subset of ISO 8601 durations.
      * <p>
@@ -108,6 +147,32 @@ public class ITU
         return ItuDurationParser.parse(text, offset);
     }
 
+    /**
+     * Parses a duration, reading the characters in place. See {@link #parseDuration(String)} for more information.
+     *
+     * @param text The text to parse
+     * @return a {@link Duration} instance representing the parsed duration
+     * @throws java.time.format.DateTimeParseException if the input does not conform to the expected format
+     */
+    public static Duration parseDuration(CharSequence text)
+    {
+        return ItuDurationParser.parse(text, 0);
+    }
+
+    /**
+     * Parses a duration, reading the characters in place. See {@link #parseDuration(String)} for more information. Error positions are relative to <code>offset</code>.
+     *
+     * @param buf    The buffer holding the text
+     * @param offset The start of the text in the buffer
+     * @param length The length of the text
+     * @return a {@link Duration} instance representing the parsed duration
+     * @throws java.time.format.DateTimeParseException if the input does not conform to the expected format
+     */
+    public static Duration parseDuration(char[] buf, int offset, int length)
+    {
+        return ItuDurationParser.parse(buf, offset, length);
+    }
+
     public static OffsetDateTime parseDateTime(String text, ParsePosition position)
     {
         return parseLenient(text, ParseConfig.DEFAULT, position).toOffsetDatetime();
@@ -137,6 +202,56 @@ public class ITU
         return ITUParser.parseLenient(text, parseConfig, 0);
     }
 
+    /**
+     * Parse leniently like {@link #parseLenient(String)}, reading the characters in place
+     *
+     * @param text The text to parse
+     * @return The date and time parsed
+     */
+    public static DateTime parseLenient(CharSequence text)
+    {
+        return ITUParser.parseLenient(text, ParseConfig.DEFAULT, 0);
+    }
+
+    /**
+     * Parse leniently like {@link #parseLenient(String, ParseConfig)}, reading the characters in place
+     *
+     * @param text        The text to parse
+     * @param parseConfig The configuration to use for parsing
+     * @return The date-time parsed
+     */
+    public static DateTime parseLenient(CharSequence text, ParseConfig parseConfig)
+    {
+        return ITUParser.parseLenient(text, parseConfig, 0);
+    }
+
+    /**
+     * Parse leniently like {@link #parseLenient(String)}, reading the characters in place. Error positions are relative to <code>offset</code>.
+     *
+     * @param buf    The buffer holding the text
+     * @param offset The start of the text in the buffer
+     * @param length The length of the text
+     * @return The date and time parsed
+     */
+    public static DateTime parseLenient(char[] buf, int offset, int length)
+    {
+        return ITUParser.parseLenient(buf, offset, length, ParseConfig.DEFAULT);
+    }
+
+    /**
+     * Parse leniently like {@link #parseLenient(String, ParseConfig)}, reading the characters in place. Error positions are relative to <code>offset</code>.
+     *
+     * @param buf         The buffer holding the text
+     * @param offset      The start of the text in the buffer
+     * @param length      The length of the text
+     * @param parseConfig The configuration to use for parsing
+     * @return The date-time parsed
+     */
+    public static DateTime parseLenient(char[] buf, int offset, int length, ParseConfig parseConfig)
+    {
+        return ITUParser.parseLenient(buf, offset, length, parseConfig);
+    }
+
     /**
      * @param text        The text to parse
      * @param parseConfig The configuration to use for parsing
@@ -158,7 +273,7 @@ public class ITU
     {
         try
         {
-            parseDateTime(text);
+            ITUParser.validateDateTime(text);
             return true;
         }
         catch (DateTimeException exc)
@@ -167,6 +282,21 @@ public class ITU
         }
     }
 
+    /**
+     * Compare two RFC-3339 formatted date-times by the point in time they represent, without creating any date-time objects.
+     * <p>
+     * Values of the same length and with the same timezone offset are range checked and compared directly on the text. Other values, including leap seconds,
+     * are fully parsed. Either way, invalid input is rejected like {@link #parseDateTime(String)}.
+     *
+     * @param a The first date-time
+     * @param b The second date-time
+     * @return A negative value, zero, or a positive value if the first date-time is before, at the same time as, or after the second
+     */
+    public static int compare(CharSequence a, CharSequence b)
+    {
+        return ITUComparator.compare(a, b);
+    }
+
     /**
      * Format the input as an RFC-3339 formatted date-time in the UTC timezone
      *
@@ -258,6 +388,84 @@ public class ITU
         return ITUFormatter.formatUtc(offsetDateTime, 9);
     }
 
+    /**
+     * Format the input like {@link #format(OffsetDateTime, int)}, appending the characters to the target
+     * <p>
+     * No String is created. The characters are written to a small buffer kept per thread, and copied to the target with a single bulk append where the
+     * target allows it.
+     *
+     * @param offsetDateTime The date-time to format
+     * @param fractionDigits The number of fraction digits in the second field
+     * @param target         The target to append to
+     */
+    public static void formatTo(final OffsetDateTime offsetDateTime, final int fractionDigits, final StringBuilder target)
+    {
+        ITUFormatter.formatTo(offsetDateTime, offsetDateTime.getOffset(), Field.NANO, fractionDigits, target);
+    }
+
+    /**
+     * Format the input like {@link #format(OffsetDateTime, int)}, appending the characters to the target
+     *
+     * @param offsetDateTime The date-time to format
+     * @param fractionDigits The number of fraction digits in the second field
+     * @param target         The target to append to
+     * @throws IOException If the target fails
+     */
+    public static void formatTo(final OffsetDateTime offsetDateTime, final int fractionDigits, final Appendable target) throws IOException
+    {
+        ITUFormatter.formatTo(offsetDateTime, offsetDateTime.getOffset(), Field.NANO, fractionDigits, target);
+    }
+
+    /**
+     * Format the input like {@link #formatUtc(OffsetDateTime, int)}, appending the characters to the target
+     *
+     * @param offsetDateTime The date-time to format
+     * @param fractionDigits The number of fraction digits in the second field
+     * @param target         The target to append to
+     */
+    public static void formatUtcTo(final OffsetDateTime offsetDateTime, final int fractionDigits, final StringBuilder target)
+    {
+        ITUFormatter.formatTo(offsetDateTime, ZoneOffset.UTC, Field.SECOND, fractionDigits, target);
+    }
+
+    /**
+     * Format the input like {@link #formatUtc(OffsetDateTime, int)}, appending the characters to the target
+     *
+     * @param offsetDateTime The date-time to format
+     * @param fractionDigits The number of fraction digits in the second field
+     * @param target         The target to append to
+     * @throws IOException If the target fails
+     */
+    public static void formatUtcTo(final OffsetDateTime offsetDateTime, final int fractionDigits, final Appendable target) throws IOException
+    {
+        ITUFormatter.formatTo(offsetDateTime, ZoneOffset.UTC, Field.SECOND, fractionDigits, target);
+    }
+
+    /**
+     * Format the input like {@link #formatUtc(OffsetDateTime, Field)}, appending the characters to the target
+     *
+     * @param offsetDateTime The date-time to format
+     * @param lastIncluded   The last included field
+     * @param target         The target to append to
+     */
+    public static void formatUtcTo(final OffsetDateTime offsetDateTime, final Field lastIncluded, final StringBuilder target)
+    {
+        ITUFormatter.formatTo(offsetDateTime, ZoneOffset.UTC, lastIncluded, 0, target);
+    }
+
+    /**
+     * Format the input like {@link #formatUtc(OffsetDateTime, Field)}, appending the characters to the target
+     *
+     * @param offsetDateTime The date-time to format
+     * @param lastIncluded   The last included field
+     * @param target         The target to append to
+     * @throws IOException If the target fails
+     */
+    public static void formatUtcTo(final OffsetDateTime offsetDateTime, final Field lastIncluded, final Appendable target) throws IOException
+    {
+        ITUFormatter.formatTo(offsetDateTime, ZoneOffset.UTC, lastIncluded, 0, target);
+    }
+
     /**
      * Parse the input, and use callbacks for the type of date/date-time it contains. This allows you to handle different granularity inputs with ease!
      *
@@ -329,7 +537,23 @@ public class ITU
     }
 
     /**
-     * Check if the input is valid for one of the specified types
+     * Parse the input, and pass the fields to the visitor as primitive values. Like {@link #parse(String, TemporalHandler)}, but without creating any
+     * <code>java.time</code> objects. The common layouts (a year, a year-month, a date, a local date-time of minute or second granularity, or a date-time with
+     * a timezone offset of second granularity or finer) are read without creating any objects at all, other input is parsed and checked like {@link #parseLenient(String)}.
+     *
+     * @param text    The text to parse as a date/date-time
+     * @param visitor The visitor of the fields
+     * @param <T>     The type returned by the visitor
+     * @return The result of the visitor
+     */
+    public static <T> T parse(CharSequence text, DateTimeVisitor<T> visitor)
+    {
+        return ITUParser.parseLenient(text, visitor);
+    }
+
+    /**
+     * Check if the input is valid for one of the specified types. Like {@link #parse(CharSequence, DateTimeVisitor)}, the common layouts are checked without
+     * creating any objects.
      *
      * @param text  The input to check
      * @param types The types that are considered valid
@@ -339,38 +563,7 @@ public class ITU
     {
         try
         {
-            return ITU.parse(text, new TemporalHandler<Boolean>()
-            {
-                @Override
-                public Boolean handle(final LocalDate localDate)
-                {
-                    return isAllowed(TemporalType.LOCAL_DATE, types);
-                }
-
-                @Override
-                public Boolean handle(final OffsetDateTime offsetDateTime)
-                {
-                    return isAllowed(TemporalType.OFFSET_DATE_TIME, types);
-                }
-
-                @Override
-                public Boolean handle(final LocalDateTime localDateTime)
-                {
-                    return isAllowed(TemporalType.LOCAL_DATE_TIME, types);
-                }
-
-                @Override
-                public Boolean handle(final YearMonth yearMonth)
-                {
-                    return isAllowed(TemporalType.YEAR_MONTH, types);
-                }
-
-                @Override
-                public Boolean handle(final Year year)
-                {
-                    return isAllowed(TemporalType.YEAR, types);
-                }
-            });
+            return isAllowed(ITUParser.parseLenient(text, TEMPORAL_TYPE), types);
         }
         catch (DateTimeException exc)
         {
@@ -0,0 +1,292 @@
+package com.ethlo.time;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.Arrays;
+
+import com.ethlo.time.internal.util.DateTimeMath;
+
+/**
+ * Converts between UTC epoch seconds, TAI and GPS seconds, accounting for the leap seconds in a {@link LeapSecondHandler}.
+ * <p>
+ * UTC epoch seconds are the seconds used by {@link Instant}, where leap seconds are not counted. TAI seconds count every elapsed SI second, and are given from the same epoch,
+ * so that <code>tai = utc + (TAI - UTC)</code>, where <code>TAI - UTC</code> is 10 seconds before the first leap second in 1972. GPS seconds are counted from the GPS epoch of
+ * 1980-01-06T00:00:00Z, and are 19 seconds behind TAI.
+ * <p>
+ * The offsets are precomputed into arrays of the leap second transitions, so each conversion is a binary search. The table starts in 1972, and the fractional offsets in use
+ * before that are not modelled.
+ */
+public class LeapSecondConverter
+{
+    /**
+     * The difference between TAI and UTC before the first leap second in 1972
+     */
+    public static final int INITIAL_TAI_UTC_OFFSET = 10;
+
+    /**
+     * The difference between TAI and GPS time
+     */
+    public static final int TAI_GPS_OFFSET = 19;
+
+    /**
+     * The GPS epoch of 1980-01-06T00:00:00Z in UTC epoch seconds
+     */
+    public static final long GPS_EPOCH_SECOND = 315_964_800L;
+
+    /**
+     * The length of the UTC-SLS smearing window in seconds, ending at the midnight after a leap second
+     */
+    public static final int SMEAR_SECONDS = 1000;
+
+    private static final int FIRST_YEAR = 1972;
+    private static final long SECONDS_PER_DAY = 86_400;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private static volatile LeapSecondConverter defaultConverter;
+
+    private final LeapSecondHandler handler;
+    private final long[] utcTransitions;
+    private final long[] taiTransitions;
+
+    private LeapSecondConverter(final LeapSecondHandler handler)
+    {
+        final YearMonth last = handler.getLastKnownLeapSecond();
+        final long[] transitions = new long[(last.getYear() - FIRST_YEAR + 1) * 12];
+        int count = 0;
+        for (int year = FIRST_YEAR; year <= last.getYear(); year++)
+        {
+            for (int month = 1; month <= 12; month++)
+            {
+                if (handler.isValidLeapSecondDate(year, month))
+                {
+                    // The offset changes at the midnight after the leap second
+                    transitions[count++] = (month == 12 ? DateTimeMath.daysFromCivil(year + 1, 1, 1) : DateTimeMath.daysFromCivil(year, month + 1, 1)) * SECONDS_PER_DAY;
+                }
+            }
+        }
+
+        this.handler = handler;
+        this.utcTransitions = Arrays.copyOf(transitions, count);
+        this.taiTransitions = new long[count];
+        for (int i = 0; i < count; i++)
+        {
+            taiTransitions[i] = utcTransitions[i] + INITIAL_TAI_UTC_OFFSET + i + 1;
+        }
+    }
+
+    /**
+     * Create a converter for the leap seconds of the handler
+     *
+     * @param handler The leap second table to use
+     * @return A new converter
+     */
+    public static LeapSecondConverter of(LeapSecondHandler handler)
+    {
+        return new LeapSecondConverter(handler);
+    }
+
+    /**
+     * Returns a converter for the leap second handler currently registered in {@link LeapSeconds}
+     *
+     * @return The converter
+     */
+    public static LeapSecondConverter getDefault()
+    {
+        final LeapSecondHandler handler = LeapSeconds.getHandler();
+        LeapSecondConverter converter = defaultConverter;
+        if (converter == null || converter.handler != handler)
+        {
+            converter = new LeapSecondConverter(handler);
+            defaultConverter = converter;
+        }
+        return converter;
+    }
+
+    /**
+     * Returns the difference between TAI and UTC at the given UTC epoch second
+     *
+     * @param utcEpochSecond The UTC epoch second
+     * @return The number of seconds TAI is ahead of UTC
+     */
+    public int getTaiUtcOffset(long utcEpochSecond)
+    {
+        return INITIAL_TAI_UTC_OFFSET + countAtOrBefore(utcTransitions, utcEpochSecond);
+    }
+
+    /**
+     * Convert UTC epoch seconds to TAI seconds
+     *
+     * @param utcEpochSecond The UTC epoch second
+     * @return The TAI seconds
+     */
+    public long toTaiSeconds(long utcEpochSecond)
+    {
+        return utcEpochSecond + getTaiUtcOffset(utcEpochSecond);
+    }
+
+    /**
+     * Convert a date-time to TAI seconds. If no timezone offset is present, UTC is assumed.
+     *
+     * @param dateTime The date-time
+     * @return The TAI seconds
+     */
+    public long toTaiSeconds(DateTime dateTime)
+    {
+        return toTaiSeconds(dateTime.toInstant().getEpochSecond());
+    }
+
+    /**
+     * Convert a parsed leap second, like <code>2016-12-31T23:59:60Z</code>, to TAI seconds
+     *
+     * @param leapSecond The exception signalling the leap second
+     * @return The TAI seconds of the leap second
+     * @throws DateTimeException If the leap second is not in the leap second table
+     */
+    public long toTaiSeconds(LeapSecondException leapSecond)
+    {
+        final long next = leapSecond.getNearestDateTime().toEpochSecond();
+        if (Arrays.binarySearch(utcTransitions, next) < 0)
+        {
+            throw new DateTimeException("Not a known leap second: " + leapSecond.getNearestDateTime());
+        }
+        return toTaiSeconds(next) - 1;
+    }
+
+    /**
+     * Convert TAI seconds to UTC epoch seconds. A leap second has the same UTC epoch second as the second after it.
+     *
+     * @param taiSeconds The TAI seconds
+     * @return The UTC epoch seconds
+     */
+    public long toUtcEpochSeconds(long taiSeconds)
+    {
+        return taiSeconds - INITIAL_TAI_UTC_OFFSET - countAtOrBefore(taiTransitions, taiSeconds);
+    }
+
+    /**
+     * Returns whether the TAI second is a leap second, that is <code>23:59:60</code> in UTC
+     *
+     * @param taiSeconds The TAI seconds
+     * @return True if it is a leap second
+     */
+    public boolean isLeapSecond(long taiSeconds)
+    {
+        return Arrays.binarySearch(taiTransitions, taiSeconds + 1) >= 0;
+    }
+
+    /**
+     * Convert UTC epoch seconds to GPS seconds
+     *
+     * @param utcEpochSecond The UTC epoch second
+     * @return The seconds since the GPS epoch
+     */
+    public long toGpsSeconds(long utcEpochSecond)
+    {
+        return taiToGpsSeconds(toTaiSeconds(utcEpochSecond));
+    }
+
+    /**
+     * Convert GPS seconds to UTC epoch seconds
+     *
+     * @param gpsSeconds The seconds since the GPS epoch
+     * @return The UTC epoch seconds
+     */
+    public long gpsToUtcEpochSeconds(long gpsSeconds)
+    {
+        return toUtcEpochSeconds(gpsToTaiSeconds(gpsSeconds));
+    }
+
+    /**
+     * Convert TAI seconds to GPS seconds
+     *
+     * @param taiSeconds The TAI seconds
+     * @return The seconds since the GPS epoch
+     */
+    public static long taiToGpsSeconds(long taiSeconds)
+    {
+        return taiSeconds - TAI_GPS_OFFSET - GPS_EPOCH_SECOND;
+    }
+
+    /**
+     * Convert GPS seconds to TAI seconds
+     *
+     * @param gpsSeconds The seconds since the GPS epoch
+     * @return The TAI seconds
+     */
+    public static long gpsToTaiSeconds(long gpsSeconds)
+    {
+        return gpsSeconds + TAI_GPS_OFFSET + GPS_EPOCH_SECOND;
+    }
+
+    /**
+     * Convert TAI seconds to a smeared UTC instant, where each leap second is spread evenly over the last {@value #SMEAR_SECONDS} seconds before the following midnight,
+     * in the style of UTC-SLS. The result is continuous and strictly increasing, and equal to UTC outside the smearing windows.
+     *
+     * @param taiSeconds The TAI seconds
+     * @param nano       The nanoseconds of the second
+     * @return The smeared UTC instant
+     */
+    public Instant toSmearedInstant(long taiSeconds, int nano)
+    {
+        final int next = countAtOrBefore(taiTransitions, taiSeconds);
+        if (next < taiTransitions.length)
+        {
+            final long windowStart = taiTransitions[next] - SMEAR_SECONDS - 1;
+            if (taiSeconds >= windowStart)
+            {
+                final long elapsedNanos = (taiSeconds - windowStart) * NANOS_PER_SECOND + nano;
+                return Instant.ofEpochSecond(utcTransitions[next] - SMEAR_SECONDS, elapsedNanos * SMEAR_SECONDS / (SMEAR_SECONDS + 1));
+            }
+        }
+        return Instant.ofEpochSecond(toUtcEpochSeconds(taiSeconds), nano);
+    }
+
+    /**
+     * Convert a date-time to a smeared UTC instant. See {@link #toSmearedInstant(long, int)}.
+     *
+     * @param dateTime The date-time
+     * @return The smeared UTC instant
+     */
+    public Instant toSmearedInstant(DateTime dateTime)
+    {
+        return toSmearedInstant(toTaiSeconds(dateTime), dateTime.getNano());
+    }
+
+    /**
+     * Convert a parsed leap second to a smeared UTC instant. See {@link #toSmearedInstant(long, int)}.
+     *
+     * @param leapSecond The exception signalling the leap second
+     * @return The smeared UTC instant
+     */
+    public Instant toSmearedInstant(LeapSecondException leapSecond)
+    {
+        return toSmearedInstant(toTaiSeconds(leapSecond), leapSecond.getNearestDateTime().getNano());
+    }
+
+    private static int countAtOrBefore(final long[] transitions, final long value)
+    {
+        final int idx = Arrays.binarySearch(transitions, value);
+        return idx >= 0 ? idx + 1 : -(idx + 1);
+    }
+}
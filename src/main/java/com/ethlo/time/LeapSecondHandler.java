@@ -0,0 +1,73 @@
+package com.ethlo.time;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 Morten Haraldsen (ethlo)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.YearMonth;
+
+/**
+ * Provides the table of leap seconds used to validate date-times with <code>60</code> in the seconds field.
+ * <p>
+ * A custom implementation can be registered with {@link LeapSeconds#setHandler(LeapSecondHandler)}, or be made available to {@link java.util.ServiceLoader}.
+ */
+public interface LeapSecondHandler
+{
+    int LEAP_SECOND_SECONDS = 60;
+
+    /**
+     * Returns whether a leap second was inserted at the end of the month
+     *
+     * @param needle The month to check
+     * @return True if the month ended with a leap second
+     */
+    boolean isValidLeapSecondDate(YearMonth needle);
+
+    /**
+     * Returns whether a leap second was inserted at the end of the month
+     *
+     * @param year  The year
+     * @param month The month, from 1 to 12
+     * @return True if the month ended with a leap second
+     */
+    default boolean isValidLeapSecondDate(int year, int month)
+    {
+        return isValidLeapSecondDate(YearMonth.of(year, month));
+    }
+
+    /**
+     * Returns the month of the last leap second in the table
+     *
+     * @return The month of the last known leap second
+     */
+    YearMonth getLastKnownLeapSecond();
+
+    /**
+     * Returns whether the month is after the last known leap second, where a leap second may be announced in the future
+     *
+     * @param year  The year
+     * @param month The month, from 1 to 12
+     * @return True if the month is after the last known leap second
+     */
+    default boolean isAfterLastKnownLeapSecond(int year, int month)
+    {
+        final YearMonth last = getLastKnownLeapSecond();
+        return year > last.getYear() || (year == last.getYear() && month > last.getMonthValue());
+    }
+}
@@ -0,0 +1,98 @@
+package com.ethlo.time;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.InputStream;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+import com.ethlo.time.internal.util.DefaultLeapSecondHandler;
+
+/**
+ * Holds the {@link LeapSecondHandler} used when parsing date-times with <code>60</code> in the seconds field.
+ * <p>
+ * The handler is only resolved the first time a leap second is encountered. Unless one is set with {@link #setHandler(LeapSecondHandler)}, the first
+ * implementation found by {@link ServiceLoader} is used, falling back to a compiled-in table of the leap seconds announced by the IERS.
+ */
+public final class LeapSeconds
+{
+    private static volatile LeapSecondHandler handler;
+
+    private LeapSeconds()
+    {
+    }
+
+    /**
+     * Returns the leap second handler in use
+     *
+     * @return The handler
+     */
+    public static LeapSecondHandler getHandler()
+    {
+        final LeapSecondHandler current = handler;
+        return current != null ? current : DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Set the leap second handler to use
+     *
+     * @param leapSecondHandler The handler to use, or <code>null</code> to revert to the default
+     */
+    public static void setHandler(LeapSecondHandler leapSecondHandler)
+    {
+        handler = leapSecondHandler;
+    }
+
+    /**
+     * Create a leap second handler from the months ending with a leap second
+     *
+     * @param months The months ending with a leap second
+     * @return A new handler
+     */
+    public static LeapSecondHandler of(Collection<YearMonth> months)
+    {
+        return new DefaultLeapSecondHandler(months);
+    }
+
+    /**
+     * Create a leap second handler from a CSV file with one <code>yyyy-MM</code> value per line, for each month ending with a leap second. The stream is closed.
+     *
+     * @param in The stream to read
+     * @return A new handler
+     */
+    public static LeapSecondHandler fromCsv(InputStream in)
+    {
+        return new DefaultLeapSecondHandler(DefaultLeapSecondHandler.readCsv(in));
+    }
+
+    private static class DefaultHolder
+    {
+        private static final LeapSecondHandler INSTANCE = load();
+
+        private static LeapSecondHandler load()
+        {
+            final Iterator<LeapSecondHandler> iterator = ServiceLoader.load(LeapSecondHandler.class).iterator();
+            return iterator.hasNext() ? iterator.next() : new DefaultLeapSecondHandler();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.ethlo.time;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed-size cache in front of {@link ITU#parseDateTime(String)} and {@link ITU#parseLenient(String)}, for input where the same values are seen again and again,
+ * like the timestamps of requests arriving within the same second.
+ * <p>
+ * The cache is direct-mapped: each input has exactly one slot, picked from its hash code, and a new value simply replaces the previous value in that slot.
+ * A hit is only returned if the cached input is equal to the input, so a collision costs a parse, never a wrong result. The cache is shared by all threads without
+ * locking, as a slot always holds a complete, immutable entry. Invalid input is never cached, and throws the same exceptions as {@link ITU}.
+ */
+public class ParseCache
+{
+    /**
+     * The largest supported number of slots
+     */
+    public static final int MAX_SIZE = 1 << 20;
+
+    private final Entry[] dateTimes;
+    private final Entry[] lenient;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private ParseCache(final int size)
+    {
+        if (size < 1 || size > MAX_SIZE)
+        {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_SIZE + ": " + size);
+        }
+        final int slots = Integer.highestOneBit(size) == size ? size : Integer.highestOneBit(size) << 1;
+        this.dateTimes = new Entry[slots];
+        this.lenient = new Entry[slots];
+        this.mask = slots - 1;
+    }
+
+    /**
+     * Create a cache with at least the specified number of slots for each of the parse methods. The size is rounded up to the nearest power of two.
+     *
+     * @param size The number of slots
+     * @return A new, empty cache
+     */
+    public static ParseCache ofSize(int size)
+    {
+        return new ParseCache(size);
+    }
+
+    /**
+     * See {@link ITU#parseDateTime(String)}
+     *
+     * @param text The text to parse
+     * @return The date and time parsed
+     */
+    public OffsetDateTime parseDateTime(String text)
+    {
+        Objects.requireNonNull(text, "text cannot be null");
+        final int slot = slot(text);
+        final Entry entry = dateTimes[slot];
+        if (entry != null && entry.text.equals(text))
+        {
+            hits.increment();
+            return (OffsetDateTime) entry.value;
+        }
+
+        misses.increment();
+        final OffsetDateTime value = ITU.parseDateTime(text);
+        dateTimes[slot] = new Entry(text, value);
+        return value;
+    }
+
+    /**
+     * See {@link ITU#parseLenient(String)}
+     *
+     * @param text The text to parse
+     * @return The date and time parsed
+     */
+    public DateTime parseLenient(String text)
+    {
+        Objects.requireNonNull(text, "text cannot be null");
+        final int slot = slot(text);
+        final Entry entry = lenient[slot];
+        if (entry != null && entry.text.equals(text))
+        {
+            hits.increment();
+            return (DateTime) entry.value;
+        }
+
+        misses.increment();
+        final DateTime value = ITU.parseLenient(text);
+        lenient[slot] = new Entry(text, value);
+        return value;
+    }
+
+    /**
+     * Returns the number of parses answered from the cache
+     *
+     * @return The number of hits
+     */
+    public long getHitCount()
+    {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of parses not answered from the cache, including invalid input
+     *
+     * @return The number of misses
+     */
+    public long getMissCount()
+    {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of slots for each of the parse methods
+     *
+     * @return The number of slots
+     */
+    public int getSize()
+    {
+        return mask + 1;
+    }
+
+    private int slot(final String text)
+    {
+        // Spread the high bits of the hash code into the low bits used for the slot, like HashMap
+        final int hash = text.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ParseCache{" +
+                "size=" + getSize() +
+                ", hits=" + getHitCount() +
+                ", misses=" + getMissCount() +
+                '}';
+    }
+
+    private static class Entry
+    {
+        private final String text;
+        private final Object value;
+
+        private Entry(final String text, final Object value)
+        {
+            this.text = text;
+            this.value = value;
+        }
+    }
+}
@@ -31,16 +31,31 @@ public class ParseConfig
 {
     private static final char[] DEFAULT_DATE_TIME_SEPARATORS = new char[]{SEPARATOR_UPPER, SEPARATOR_LOWER, SEPARATOR_SPACE};
     private static final char[] RFC_3339_FRACTION_SEPARATOR = new char[]{'.'};
+
+    /**
+     * The default maximum number of characters to consume. The longest valid date-time, with nanoseconds and a timezone offset, is 35 characters.
+     */
+    public static final int DEFAULT_MAX_LENGTH = 64;
+
     public static final ParseConfig DEFAULT = new ParseConfig(DEFAULT_DATE_TIME_SEPARATORS, RFC_3339_FRACTION_SEPARATOR);
     public static final ParseConfig STRICT = new ParseConfig(new char[]{SEPARATOR_UPPER}, RFC_3339_FRACTION_SEPARATOR);
 
     private final char[] dateTimeSeparators;
     private final char[] fractionSeparators;
+    private final int maxLength;
+    private final boolean failOnTrailingJunk;
 
     protected ParseConfig(char[] dateTimeSeparators, char[] allowedFractionSeparators)
+    {
+        this(dateTimeSeparators, allowedFractionSeparators, DEFAULT_MAX_LENGTH, true);
+    }
+
+    protected ParseConfig(char[] dateTimeSeparators, char[] allowedFractionSeparators, int maxLength, boolean failOnTrailingJunk)
     {
         this.dateTimeSeparators = Optional.ofNullable(dateTimeSeparators).orElse(DEFAULT_DATE_TIME_SEPARATORS);
         this.fractionSeparators = Optional.ofNullable(allowedFractionSeparators).orElse(RFC_3339_FRACTION_SEPARATOR);
+        this.maxLength = maxLength;
+        this.failOnTrailingJunk = failOnTrailingJunk;
     }
 
     public char[] getFractionSeparators()
@@ -51,7 +66,7 @@ public class ParseConfig
     public ParseConfig withDateTimeSeparators(char... allowed)
     {
         assertChars(allowed);
-        return new ParseConfig(allowed, fractionSeparators);
+        return new ParseConfig(allowed, fractionSeparators, maxLength, failOnTrailingJunk);
     }
 
     private void assertChars(char[] chars)
@@ -69,17 +84,48 @@ public class ParseConfig
     public ParseConfig withFractionSeparators(char... allowed)
     {
         assertChars(allowed);
-        return new ParseConfig(dateTimeSeparators, allowed);
+        return new ParseConfig(dateTimeSeparators, allowed, maxLength, failOnTrailingJunk);
     }
 
+    /**
+     * Whether to fail if there is data after the date-time. If not, the date-time is parsed as a prefix of the input, stopping where the text can no longer be
+     * part of a date-time, and the number of characters read is available from {@link DateTime#getParseLength()}. This allows reading a date-time at the head
+     * of a line, like <code>2024-01-01T00:00:00Z INFO ...</code>, without copying it out first.
+     * <p>
+     * Parsing with a {@link java.text.ParsePosition} always reads a prefix.
+     *
+     * @param failOnTrailingJunk Whether to fail on data after the date-time
+     * @return A new config with the setting applied
+     */
     public ParseConfig withFailOnTrailingJunk(boolean failOnTrailingJunk)
     {
-        return new ParseConfig(dateTimeSeparators, fractionSeparators);
+        return new ParseConfig(dateTimeSeparators, fractionSeparators, maxLength, failOnTrailingJunk);
+    }
+
+    /**
+     * Limit the number of characters read, to bound the cost of parsing untrusted input. When failing on trailing junk, longer input is rejected before it is read.
+     * Otherwise, no characters are read beyond the limit.
+     *
+     * @param maxLength The maximum number of characters to read, from the start offset
+     * @return A new config with the limit set
+     */
+    public ParseConfig withMaxLength(int maxLength)
+    {
+        if (maxLength < 1)
+        {
+            throw new IllegalArgumentException("Maximum length must be positive, was " + maxLength);
+        }
+        return new ParseConfig(dateTimeSeparators, fractionSeparators, maxLength, failOnTrailingJunk);
+    }
+
+    public int getMaxLength()
+    {
+        return maxLength;
     }
 
     public boolean isFailOnTrailingJunk()
     {
-        return true;
+        return failOnTrailingJunk;
     }
 
     public char[] getDateTimeSeparators()
@@ -117,6 +163,8 @@ public class ParseConfig
         return "ParseConfig{" +
                 "dateTimeSeparators=" + Arrays.toString(dateTimeSeparators) +
                 ", fractionSeparators=" + Arrays.toString(fractionSeparators) +
+                ", maxLength=" + maxLength +
+                ", failOnTrailingJunk=" + failOnTrailingJunk +
                 '}';
     }
 }
@@ -0,0 +1,66 @@
+package com.ethlo.time;
+
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Controls how parse errors are reported.
+ * <p>
+ * By default a {@link java.time.format.DateTimeParseException} has a formatted message and a full stack trace, which makes failures expensive
+ * when large amounts of invalid input are expected, like when validating untrusted data. In lightweight mode the exceptions are created without a stack trace,
+ * and the message is only formatted when {@link Throwable#getMessage()} is called. The type of exception, the error index and the parsed text are the same in both modes.
+ * <p>
+ * Lightweight mode is disabled by default. It can be enabled at runtime with {@link #setLightweight(boolean)}, or at startup with the system property
+ * <code>com.ethlo.time.exceptions.lightweight=true</code>.
+ */
+public final class ParseExceptions
+{
+    /**
+     * The system property to enable lightweight mode at startup
+     */
+    public static final String LIGHTWEIGHT_PROPERTY = "com.ethlo.time.exceptions.lightweight";
+
+    private static volatile boolean lightweight = Boolean.getBoolean(LIGHTWEIGHT_PROPERTY);
+
+    private ParseExceptions()
+    {
+    }
+
+    /**
+     * Returns whether parse exceptions are created without stack traces and with lazily formatted messages
+     *
+     * @return True if lightweight mode is enabled
+     */
+    public static boolean isLightweight()
+    {
+        return lightweight;
+    }
+
+    /**
+     * Enable or disable lightweight mode
+     *
+     * @param lightweight Whether to create parse exceptions without stack traces and with lazily formatted messages
+     */
+    public static void setLightweight(boolean lightweight)
+    {
+        ParseExceptions.lightweight = lightweight;
+    }
+}
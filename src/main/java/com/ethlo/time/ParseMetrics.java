@@ -0,0 +1,225 @@
+package com.ethlo.time;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Arrays;
+
+import com.ethlo.time.internal.ParseMetricsCounters;
+
+/**
+ * Optional counters for the date-times parsed by {@link ITU}, by granularity, timezone offset, input length and type of error.
+ * <p>
+ * The counters are disabled by default, and then cost a single flag check per parse. They can be enabled at runtime with {@link #setEnabled(boolean)}, or at startup with
+ * the system property <code>com.ethlo.time.metrics.enabled=true</code>. The counters are shared by all threads, and are read with {@link #snapshot()}.
+ */
+public final class ParseMetrics
+{
+    /**
+     * The system property to enable the counters at startup
+     */
+    public static final String ENABLED_PROPERTY = "com.ethlo.time.metrics.enabled";
+
+    /**
+     * The type of error that made a parse fail
+     */
+    public enum ErrorType
+    {
+        /**
+         * The input did not have the expected format, signalled by a {@link java.time.format.DateTimeParseException}
+         */
+        INVALID_FORMAT,
+        /**
+         * A field had a value out of range, like a month of <code>13</code>
+         */
+        INVALID_VALUE,
+        /**
+         * The input was a leap second, signalled by a {@link LeapSecondException}
+         */
+        LEAP_SECOND
+    }
+
+    private ParseMetrics()
+    {
+    }
+
+    /**
+     * Returns whether the counters are enabled
+     *
+     * @return True if enabled
+     */
+    public static boolean isEnabled()
+    {
+        return ParseMetricsCounters.isEnabled();
+    }
+
+    /**
+     * Enable or disable the counters. The counters keep their values when disabled.
+     *
+     * @param enabled Whether to count parses
+     */
+    public static void setEnabled(boolean enabled)
+    {
+        ParseMetricsCounters.setEnabled(enabled);
+    }
+
+    /**
+     * Reset all counters to zero
+     */
+    public static void reset()
+    {
+        ParseMetricsCounters.reset();
+    }
+
+    /**
+     * Returns the current values of the counters. Parses running concurrently may or may not be included.
+     *
+     * @return The current values
+     */
+    public static Snapshot snapshot()
+    {
+        return new Snapshot(ParseMetricsCounters.fields(), ParseMetricsCounters.errors(), ParseMetricsCounters.lengths(), ParseMetricsCounters.offsets(), ParseMetricsCounters.otherOffsets(), ParseMetricsCounters.noOffset());
+    }
+
+    /**
+     * The values of the counters at a point in time
+     */
+    public static class Snapshot
+    {
+        private final long[] fields;
+        private final long[] errors;
+        private final long[] lengths;
+        private final long[] offsets;
+        private final long otherOffsets;
+        private final long noOffset;
+
+        private Snapshot(final long[] fields, final long[] errors, final long[] lengths, final long[] offsets, final long otherOffsets, final long noOffset)
+        {
+            this.fields = fields;
+            this.errors = errors;
+            this.lengths = lengths;
+            this.offsets = offsets;
+            this.otherOffsets = otherOffsets;
+            this.noOffset = noOffset;
+        }
+
+        /**
+         * Returns the number of successful parses
+         *
+         * @return The number of successful parses
+         */
+        public long getSuccessCount()
+        {
+            return Arrays.stream(fields).sum();
+        }
+
+        /**
+         * Returns the number of failed parses
+         *
+         * @return The number of failed parses
+         */
+        public long getErrorCount()
+        {
+            return Arrays.stream(errors).sum();
+        }
+
+        /**
+         * Returns the number of successful parses with the given most granular field
+         *
+         * @param field The most granular field of the parsed value
+         * @return The number of parses
+         */
+        public long getCount(Field field)
+        {
+            return fields[field.ordinal()];
+        }
+
+        /**
+         * Returns the number of failed parses with the given type of error
+         *
+         * @param errorType The type of error
+         * @return The number of parses
+         */
+        public long getCount(ErrorType errorType)
+        {
+            return errors[errorType.ordinal()];
+        }
+
+        /**
+         * Returns the number of parses, successful or not, of input with the given length. All input longer than 64 characters is counted together.
+         *
+         * @param length The length of the input
+         * @return The number of parses
+         */
+        public long getLengthCount(int length)
+        {
+            return lengths[Math.max(0, Math.min(length, ParseMetricsCounters.MAX_LENGTH))];
+        }
+
+        /**
+         * Returns the number of successful parses with the given timezone offset. Offsets that are not a multiple of 15 minutes are only counted in total,
+         * see {@link #getOtherOffsetCount()}.
+         *
+         * @param offset The timezone offset
+         * @return The number of parses
+         */
+        public long getOffsetCount(TimezoneOffset offset)
+        {
+            final int minutes = offset.getTotalSeconds() / 60;
+            final int steps = minutes / ParseMetricsCounters.OFFSET_STEP_MINUTES;
+            if (minutes % ParseMetricsCounters.OFFSET_STEP_MINUTES != 0 || Math.abs(steps) > ParseMetricsCounters.MAX_OFFSET_STEPS)
+            {
+                return 0;
+            }
+            return offsets[steps + ParseMetricsCounters.MAX_OFFSET_STEPS];
+        }
+
+        /**
+         * Returns the number of successful parses with a timezone offset that is not a multiple of 15 minutes
+         *
+         * @return The number of parses
+         */
+        public long getOtherOffsetCount()
+        {
+            return otherOffsets;
+        }
+
+        /**
+         * Returns the number of successful parses without a timezone offset, like dates and local date-times
+         *
+         * @return The number of parses
+         */
+        public long getNoOffsetCount()
+        {
+            return noOffset;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "Snapshot{" +
+                    "success=" + getSuccessCount() +
+                    ", errors=" + getErrorCount() +
+                    ", fields=" + Arrays.toString(fields) +
+                    ", errorTypes=" + Arrays.toString(errors) +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.ethlo.time;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.Instant;
+
+import com.ethlo.time.internal.fixed.ITUFieldParser;
+
+/**
+ * Converts RFC-3339 date-times to fixed-width binary keys that sort in chronological order when compared as unsigned bytes, regardless of the timezone offset of the input.
+ * <p>
+ * A key is {@value #LENGTH} bytes: the epoch seconds (8 bytes, big-endian, with the sign bit flipped) followed by the nanoseconds of the second (4 bytes, big-endian).
+ * This makes the keys suitable for radix sorting and as keys in byte-ordered stores, without creating any <code>java.time</code> objects.
+ * <p>
+ * The input is validated like {@link ITU#parseDateTime(String)}, and the same exceptions are thrown for invalid input.
+ */
+public class SortKeys
+{
+    /**
+     * The length of a sort key in bytes
+     */
+    public static final int LENGTH = 12;
+
+    private SortKeys()
+    {
+    }
+
+    /**
+     * Create a sort key for the RFC-3339 formatted date-time
+     *
+     * @param text The date-time to create a key for
+     * @return The sort key
+     */
+    public static byte[] of(String text)
+    {
+        final byte[] key = new byte[LENGTH];
+        write(text, key, 0);
+        return key;
+    }
+
+    /**
+     * Create a sort key for the RFC-3339 formatted date-time held as ASCII bytes
+     *
+     * @param text   The buffer holding the date-time
+     * @param offset The start of the date-time in the buffer
+     * @param length The length of the date-time
+     * @return The sort key
+     */
+    public static byte[] of(byte[] text, int offset, int length)
+    {
+        final byte[] key = new byte[LENGTH];
+        write(text, offset, length, key, 0);
+        return key;
+    }
+
+    /**
+     * Write the sort key for the RFC-3339 formatted date-time to the target buffer
+     *
+     * @param text         The date-time to create a key for
+     * @param target       The buffer to write the key to
+     * @param targetOffset The position in the target buffer to write the key
+     */
+    public static void write(String text, byte[] target, int targetOffset)
+    {
+        final ITUFieldParser parser = new ITUFieldParser().parseDateTime(text);
+        write(parser.getEpochSecond(), parser.getNano(), target, targetOffset);
+    }
+
+    /**
+     * Write the sort key for the RFC-3339 formatted date-time held as ASCII bytes to the target buffer
+     *
+     * @param text         The buffer holding the date-time
+     * @param offset       The start of the date-time in the buffer
+     * @param length       The length of the date-time
+     * @param target       The buffer to write the key to
+     * @param targetOffset The position in the target buffer to write the key
+     */
+    public static void write(byte[] text, int offset, int length, byte[] target, int targetOffset)
+    {
+        final ITUFieldParser parser = new ITUFieldParser().parseDateTime(text, offset, length);
+        write(parser.getEpochSecond(), parser.getNano(), target, targetOffset);
+    }
+
+    /**
+     * Write the sort key for the point in time to the target buffer
+     *
+     * @param epochSecond  The number of seconds from 1970-01-01T00:00:00Z
+     * @param nano         The nanoseconds of the second
+     * @param target       The buffer to write the key to
+     * @param targetOffset The position in the target buffer to write the key
+     */
+    public static void write(long epochSecond, int nano, byte[] target, int targetOffset)
+    {
+        final long flipped = epochSecond ^ Long.MIN_VALUE;
+        for (int i = 0; i < 8; i++)
+        {
+            target[targetOffset + i] = (byte) (flipped >>> (56 - (i * 8)));
+        }
+        for (int i = 0; i < 4; i++)
+        {
+            target[targetOffset + 8 + i] = (byte) (nano >>> (24 - (i * 8)));
+        }
+    }
+
+    /**
+     * Returns the epoch seconds stored in the key
+     *
+     * @param key    The buffer holding the key
+     * @param offset The position of the key in the buffer
+     * @return The number of seconds from 1970-01-01T00:00:00Z
+     */
+    public static long getEpochSecond(byte[] key, int offset)
+    {
+        long value = 0;
+        for (int i = 0; i < 8; i++)
+        {
+            value = (value << 8) | (key[offset + i] & 0xFF);
+        }
+        return value ^ Long.MIN_VALUE;
+    }
+
+    /**
+     * Returns the nanoseconds of the second stored in the key
+     *
+     * @param key    The buffer holding the key
+     * @param offset The position of the key in the buffer
+     * @return The nanoseconds of the second
+     */
+    public static int getNano(byte[] key, int offset)
+    {
+        int value = 0;
+        for (int i = 8; i < LENGTH; i++)
+        {
+            value = (value << 8) | (key[offset + i] & 0xFF);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the point in time stored in the key
+     *
+     * @param key    The buffer holding the key
+     * @param offset The position of the key in the buffer
+     * @return The instant
+     */
+    public static Instant toInstant(byte[] key, int offset)
+    {
+        return Instant.ofEpochSecond(getEpochSecond(key, offset), getNano(key, offset));
+    }
+
+    /**
+     * Compare two keys as unsigned bytes, which is the same as comparing the points in time they represent
+     *
+     * @param a       The buffer holding the first key
+     * @param aOffset The position of the first key
+     * @param b       The buffer holding the second key
+     * @param bOffset The position of the second key
+     * @return A negative value, zero, or a positive value if the first key is less than, equal to, or greater than the second key
+     */
+    public static int compare(byte[] a, int aOffset, byte[] b, int bOffset)
+    {
+        for (int i = 0; i < LENGTH; i++)
+        {
+            final int diff = (a[aOffset + i] & 0xFF) - (b[bOffset + i] & 0xFF);
+            if (diff != 0)
+            {
+                return diff;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,310 @@
+package com.ethlo.time;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Objects;
+
+import com.ethlo.time.internal.fixed.ITUComparator;
+import com.ethlo.time.internal.fixed.ITUFieldParser;
+
+/**
+ * Finds time ranges in a memory-mapped log file where each line starts with an RFC-3339 date-time, and the lines are sorted by that date-time.
+ * <p>
+ * The file is searched with a binary search over byte offsets: from a probe offset, the start of the next line is located and its leading date-time is read directly from the
+ * mapped bytes. Finding a range therefore requires reading O(log n) lines, and not the whole file. Lines without a leading date-time, like continuation lines of a stack trace,
+ * are considered part of the preceding line.
+ * <p>
+ * Instances are not thread-safe.
+ */
+public class SortedLogFile implements Closeable
+{
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+    private static final int MAX_TIMESTAMP_LENGTH = 35;
+    private static final byte NEW_LINE = '\n';
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] segments;
+    private final long size;
+    private final ITUFieldParser parser = new ITUFieldParser();
+    private final byte[] scratch = new byte[MAX_TIMESTAMP_LENGTH];
+
+    private SortedLogFile(final FileChannel channel) throws IOException
+    {
+        this.channel = channel;
+        this.size = channel.size();
+        this.segments = new MappedByteBuffer[(int) ((size + SEGMENT_MASK) >>> SEGMENT_SHIFT)];
+        for (int i = 0; i < segments.length; i++)
+        {
+            final long position = (long) i << SEGMENT_SHIFT;
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(size - position, SEGMENT_MASK + 1));
+        }
+    }
+
+    /**
+     * Memory-map the log file for searching
+     *
+     * @param path The log file
+     * @return The mapped file
+     * @throws IOException If the file cannot be opened or mapped
+     */
+    public static SortedLogFile open(Path path) throws IOException
+    {
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try
+        {
+            return new SortedLogFile(channel);
+        }
+        catch (IOException exc)
+        {
+            channel.close();
+            throw exc;
+        }
+    }
+
+    /**
+     * Returns the size of the file in bytes
+     *
+     * @return The size of the file
+     */
+    public long size()
+    {
+        return size;
+    }
+
+    /**
+     * Find the lines with a date-time from <code>from</code> (inclusive) to <code>to</code> (exclusive)
+     *
+     * @param from The start of the time range, inclusive, as an RFC-3339 formatted date-time
+     * @param to   The end of the time range, exclusive, as an RFC-3339 formatted date-time
+     * @return The byte range of the matching lines in the file
+     */
+    public Range find(String from, String to)
+    {
+        final ITUFieldParser start = new ITUFieldParser().parseDateTime(from);
+        final ITUFieldParser end = new ITUFieldParser().parseDateTime(to);
+        return find(start.getEpochSecond(), start.getNano(), end.getEpochSecond(), end.getNano());
+    }
+
+    /**
+     * Find the lines with a date-time from <code>from</code> (inclusive) to <code>to</code> (exclusive)
+     *
+     * @param from The start of the time range, inclusive
+     * @param to   The end of the time range, exclusive
+     * @return The byte range of the matching lines in the file
+     */
+    public Range find(Instant from, Instant to)
+    {
+        return find(from.getEpochSecond(), from.getNano(), to.getEpochSecond(), to.getNano());
+    }
+
+    private Range find(final long fromSecond, final int fromNano, final long toSecond, final int toNano)
+    {
+        final long start = offsetOf(fromSecond, fromNano, 0);
+        if (ITUComparator.compare(fromSecond, fromNano, toSecond, toNano) >= 0)
+        {
+            return new Range(start, start);
+        }
+        return new Range(start, offsetOf(toSecond, toNano, start));
+    }
+
+    /**
+     * Returns the byte offset of the first line with a date-time at or after the given date-time
+     *
+     * @param dateTime An RFC-3339 formatted date-time
+     * @return The offset of the line, or the size of the file if there is no such line
+     */
+    public long offsetOf(String dateTime)
+    {
+        final ITUFieldParser target = new ITUFieldParser().parseDateTime(dateTime);
+        return offsetOf(target.getEpochSecond(), target.getNano(), 0);
+    }
+
+    /**
+     * Returns the byte offset of the first line with a date-time at or after the given instant
+     *
+     * @param instant The instant to search for
+     * @return The offset of the line, or the size of the file if there is no such line
+     */
+    public long offsetOf(Instant instant)
+    {
+        return offsetOf(instant.getEpochSecond(), instant.getNano(), 0);
+    }
+
+    private long offsetOf(final long epochSecond, final int nano, final long from)
+    {
+        // Lines starting before low are before the target, and no line starting from high up to the result is at or after it
+        long low = from;
+        long high = size;
+        long result = size;
+        while (low < high)
+        {
+            final long mid = low + ((high - low) >>> 1);
+            final long probe = timestampedLineAtOrAfter(mid, high);
+            if (probe < 0)
+            {
+                // Only lines without a date-time from the middle to the upper bound, so keep bisecting the lower half
+                high = mid;
+            }
+            else if (ITUComparator.compare(parser.getEpochSecond(), parser.getNano(), epochSecond, nano) < 0)
+            {
+                low = probe + 1;
+            }
+            else
+            {
+                result = probe;
+                high = probe;
+            }
+        }
+        return result;
+    }
+
+    private long timestampedLineAtOrAfter(final long position, final long limit)
+    {
+        long lineStart = lineStartAtOrAfter(position);
+        while (lineStart < limit)
+        {
+            if (readTimestamp(lineStart))
+            {
+                return lineStart;
+            }
+            lineStart = lineStartAtOrAfter(lineStart + 1);
+        }
+        return -1;
+    }
+
+    private long lineStartAtOrAfter(final long position)
+    {
+        if (position == 0)
+        {
+            return 0;
+        }
+
+        for (long i = position - 1; i < size; i++)
+        {
+            if (get(i) == NEW_LINE)
+            {
+                return i + 1;
+            }
+        }
+        return size;
+    }
+
+    private boolean readTimestamp(final long lineStart)
+    {
+        final int length = (int) Math.min(MAX_TIMESTAMP_LENGTH, size - lineStart);
+        for (int i = 0; i < length; i++)
+        {
+            scratch[i] = get(lineStart + i);
+        }
+        return parser.read(scratch, 0, length);
+    }
+
+    private byte get(final long position)
+    {
+        return segments[(int) (position >>> SEGMENT_SHIFT)].get((int) (position & SEGMENT_MASK));
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        channel.close();
+    }
+
+    /**
+     * A range of bytes in a file
+     */
+    public static class Range
+    {
+        private final long start;
+        private final long end;
+
+        public Range(final long start, final long end)
+        {
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Returns the offset of the first byte in the range
+         *
+         * @return The start offset, inclusive
+         */
+        public long getStart()
+        {
+            return start;
+        }
+
+        /**
+         * Returns the offset after the last byte in the range
+         *
+         * @return The end offset, exclusive
+         */
+        public long getEnd()
+        {
+            return end;
+        }
+
+        public long getLength()
+        {
+            return end - start;
+        }
+
+        public boolean isEmpty()
+        {
+            return start == end;
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass())
+            {
+                return false;
+            }
+            final Range range = (Range) o;
+            return start == range.start && end == range.end;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(start, end);
+        }
+
+        @Override
+        public String toString()
+        {
+            return "Range{" + "start=" + start + ", end=" + end + '}';
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.ethlo.time;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static com.ethlo.time.Duration.NANOS_PER_SECOND;
+
+import java.util.Objects;
+
+import com.ethlo.time.internal.fixed.ITUFieldParser;
+
+/**
+ * Assigns RFC-3339 date-times in text form to fixed-width time buckets, like the 1 minute or 1 hour buckets of a dashboard.
+ * <p>
+ * Bucket <code>0</code> starts at the alignment, which is a duration after 1970-01-01T00:00:00Z, and each bucket is <code>width</code> long.
+ * Buckets before the alignment have negative indexes. The date-time is parsed and bucketed in one pass, without creating any <code>java.time</code> objects.
+ * <p>
+ * The input is validated like {@link ITU#parseDateTime(String)}, and the same exceptions are thrown for invalid input.
+ */
+public class TimeBuckets
+{
+    private final long widthSeconds;
+    private final int widthNanos;
+    private final long widthTotalNanos;
+    private final long alignmentSeconds;
+    private final int alignmentNanos;
+
+    private TimeBuckets(final Duration width, final Duration alignment)
+    {
+        Objects.requireNonNull(width, "width cannot be null");
+        Objects.requireNonNull(alignment, "alignment cannot be null");
+        if (width.getSeconds() < 0 || (width.getSeconds() == 0 && width.getNanos() == 0))
+        {
+            throw new IllegalArgumentException("width must be positive: " + width);
+        }
+        this.widthSeconds = width.getSeconds();
+        this.widthNanos = width.getNanos();
+        this.widthTotalNanos = widthNanos != 0 ? Math.addExact(Math.multiplyExact(widthSeconds, NANOS_PER_SECOND), widthNanos) : 0;
+        this.alignmentSeconds = alignment.getSeconds();
+        this.alignmentNanos = alignment.getNanos();
+    }
+
+    /**
+     * Buckets of the specified width, aligned to 1970-01-01T00:00:00Z
+     *
+     * @param width The width of each bucket
+     * @return A new instance
+     */
+    public static TimeBuckets of(Duration width)
+    {
+        return new TimeBuckets(width, Duration.ZERO);
+    }
+
+    /**
+     * Buckets of the specified width, with bucket 0 starting at the alignment after 1970-01-01T00:00:00Z. For example, 1 day buckets
+     * starting at 06:00 UTC use an alignment of 6 hours.
+     *
+     * @param width     The width of each bucket
+     * @param alignment The start of bucket 0, relative to 1970-01-01T00:00:00Z
+     * @return A new instance
+     */
+    public static TimeBuckets of(Duration width, Duration alignment)
+    {
+        return new TimeBuckets(width, alignment);
+    }
+
+    /**
+     * Returns the index of the bucket containing the RFC-3339 formatted date-time
+     *
+     * @param text The date-time
+     * @return The bucket index
+     */
+    public long index(CharSequence text)
+    {
+        final ITUFieldParser parser = new ITUFieldParser().parseDateTime(text);
+        return index(parser.getEpochSecond(), parser.getNano());
+    }
+
+    /**
+     * Returns the index of the bucket containing the RFC-3339 formatted date-time held as ASCII bytes
+     *
+     * @param text   The buffer holding the date-time
+     * @param offset The start of the date-time in the buffer
+     * @param length The length of the date-time
+     * @return The bucket index
+     */
+    public long index(byte[] text, int offset, int length)
+    {
+        final ITUFieldParser parser = new ITUFieldParser().parseDateTime(text, offset, length);
+        return index(parser.getEpochSecond(), parser.getNano());
+    }
+
+    /**
+     * Returns the index of the bucket containing the point in time
+     *
+     * @param epochSecond The number of seconds from 1970-01-01T00:00:00Z
+     * @param nano        The nanoseconds of the second
+     * @return The bucket index
+     * @throws ArithmeticException If the bucket width has a fraction of a second, and the point in time is more than about 292 years from the alignment
+     */
+    public long index(long epochSecond, int nano)
+    {
+        final long seconds = Math.subtractExact(epochSecond, alignmentSeconds);
+        final int nanos = nano - alignmentNanos;
+        if (widthNanos == 0)
+        {
+            return Math.floorDiv(nanos < 0 ? seconds - 1 : seconds, widthSeconds);
+        }
+        final long totalNanos = Math.addExact(Math.multiplyExact(seconds, NANOS_PER_SECOND), nanos);
+        return Math.floorDiv(totalNanos, widthTotalNanos);
+    }
+
+    /**
+     * Fill the target with the bucket index of each RFC-3339 formatted date-time
+     *
+     * @param texts  The date-times
+     * @param target The buffer to write the indexes to, at least as long as <code>texts</code>
+     */
+    public void indexes(CharSequence[] texts, long[] target)
+    {
+        final ITUFieldParser parser = new ITUFieldParser();
+        for (int i = 0; i < texts.length; i++)
+        {
+            parser.parseDateTime(texts[i]);
+            target[i] = index(parser.getEpochSecond(), parser.getNano());
+        }
+    }
+
+    /**
+     * Fill the target with the bucket index of each RFC-3339 formatted date-time relative to the first bucket, like the slots of a histogram
+     *
+     * @param texts       The date-times
+     * @param firstBucket The index of the bucket written as <code>0</code>
+     * @param target      The buffer to write the relative indexes to, at least as long as <code>texts</code>
+     * @throws ArithmeticException If a relative index does not fit in an <code>int</code>
+     */
+    public void indexes(CharSequence[] texts, long firstBucket, int[] target)
+    {
+        final ITUFieldParser parser = new ITUFieldParser();
+        for (int i = 0; i < texts.length; i++)
+        {
+            parser.parseDateTime(texts[i]);
+            target[i] = Math.toIntExact(index(parser.getEpochSecond(), parser.getNano()) - firstBucket);
+        }
+    }
+
+    /**
+     * Returns the start of the bucket as the number of seconds from 1970-01-01T00:00:00Z
+     *
+     * @param index The bucket index
+     * @return The seconds of the start of the bucket
+     */
+    public long getStartEpochSecond(long index)
+    {
+        if (widthNanos == 0)
+        {
+            return Math.addExact(Math.multiplyExact(index, widthSeconds), alignmentSeconds);
+        }
+        final long nanos = Math.addExact(Math.multiplyExact(index, widthTotalNanos), alignmentNanos);
+        return Math.addExact(Math.floorDiv(nanos, NANOS_PER_SECOND), alignmentSeconds);
+    }
+
+    /**
+     * Returns the nanoseconds of the second of the start of the bucket
+     *
+     * @param index The bucket index
+     * @return The nanoseconds of the start of the bucket
+     */
+    public int getStartNano(long index)
+    {
+        if (widthNanos == 0)
+        {
+            return alignmentNanos;
+        }
+        final long nanos = Math.addExact(Math.multiplyExact(index, widthTotalNanos), alignmentNanos);
+        return (int) Math.floorMod(nanos, NANOS_PER_SECOND);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "TimeBuckets{" +
+                "width=" + Duration.of(widthSeconds, widthNanos) +
+                ", alignment=" + Duration.of(alignmentSeconds, alignmentNanos) +
+                '}';
+    }
+}
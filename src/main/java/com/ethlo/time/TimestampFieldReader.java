@@ -0,0 +1,430 @@
+package com.ethlo.time;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+
+import com.ethlo.time.internal.events.TimeEvents;
+import com.ethlo.time.internal.fixed.ITUFieldParser;
+
+/**
+ * Extracts a single RFC-3339 date-time field from each record of a newline delimited JSON (NDJSON) or CSV stream.
+ * <p>
+ * The input is read in chunks into a reusable buffer, and the field value is located and parsed directly from the bytes, so no objects are created per record.
+ * Records are separated by line breaks, and records without the field are skipped. Invalid date-time values are rejected like {@link ITU#parseDateTime(String)},
+ * with the index of the record added to the message.
+ * <p>
+ * For JSON, only top-level fields are matched, and the field name is compared with the raw bytes of the key. For CSV, quoted values are supported, but not line breaks inside them.
+ * Instances are not thread-safe, but can be reused.
+ */
+public class TimestampFieldReader
+{
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    private static final byte NEW_LINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final byte QUOTE = '"';
+    private static final byte ESCAPE = '\\';
+
+    private final byte[] jsonField;
+    private final int csvColumn;
+    private final byte[] csvHeader;
+    private final byte delimiter;
+    private final int bufferSize;
+    private final ITUFieldParser parser = new ITUFieldParser();
+
+    private int column;
+    private int valueStart;
+    private int valueEnd;
+
+    private TimestampFieldReader(final byte[] jsonField, final int csvColumn, final byte[] csvHeader, final byte delimiter, final int bufferSize)
+    {
+        if (bufferSize < 1)
+        {
+            throw new IllegalArgumentException("Buffer size must be positive, was " + bufferSize);
+        }
+        this.jsonField = jsonField;
+        this.csvColumn = csvColumn;
+        this.csvHeader = csvHeader;
+        this.delimiter = delimiter;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Receives the date-time of each record
+     */
+    @FunctionalInterface
+    public interface Sink
+    {
+        /**
+         * Called for each record with a date-time
+         *
+         * @param record      The zero-based index of the record, not counting blank lines and any CSV header
+         * @param epochSecond The number of seconds from 1970-01-01T00:00:00Z
+         * @param nano        The nanoseconds of the second
+         */
+        void accept(long record, long epochSecond, int nano);
+    }
+
+    /**
+     * Read the named top-level field from each JSON object
+     *
+     * @param fieldName The name of the field holding the date-time
+     * @return A new reader
+     */
+    public static TimestampFieldReader jsonField(String fieldName)
+    {
+        return new TimestampFieldReader(fieldName.getBytes(StandardCharsets.UTF_8), -1, null, (byte) 0, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Read the column with the given index from each CSV record
+     *
+     * @param column    The zero-based index of the column holding the date-time
+     * @param delimiter The column delimiter
+     * @return A new reader
+     */
+    public static TimestampFieldReader csvColumn(int column, char delimiter)
+    {
+        if (column < 0)
+        {
+            throw new IllegalArgumentException("Column cannot be negative, was " + column);
+        }
+        return new TimestampFieldReader(null, column, null, toByte(delimiter), DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Read the column with the given name in the header line from each CSV record
+     *
+     * @param columnName The name of the column holding the date-time
+     * @param delimiter  The column delimiter
+     * @return A new reader
+     */
+    public static TimestampFieldReader csvColumn(String columnName, char delimiter)
+    {
+        return new TimestampFieldReader(null, -1, columnName.getBytes(StandardCharsets.UTF_8), toByte(delimiter), DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Set the initial size of the read buffer. The buffer grows if a record does not fit.
+     *
+     * @param bufferSize The initial buffer size in bytes
+     * @return A new reader with the given buffer size
+     */
+    public TimestampFieldReader withBufferSize(int bufferSize)
+    {
+        return new TimestampFieldReader(jsonField, csvColumn, csvHeader, delimiter, bufferSize);
+    }
+
+    /**
+     * Read all records from the stream. The stream is not closed.
+     *
+     * @param in   The stream to read
+     * @param sink The sink receiving the date-times
+     * @return The number of date-times read
+     * @throws IOException If reading fails
+     */
+    public long read(InputStream in, Sink sink) throws IOException
+    {
+        return read((buf, offset, length) -> in.read(buf, offset, length), sink);
+    }
+
+    /**
+     * Read all records from the channel. The channel is not closed.
+     *
+     * @param channel The channel to read
+     * @param sink    The sink receiving the date-times
+     * @return The number of date-times read
+     * @throws IOException If reading fails
+     */
+    public long read(ReadableByteChannel channel, Sink sink) throws IOException
+    {
+        return read((buf, offset, length) -> channel.read(ByteBuffer.wrap(buf, offset, length)), sink);
+    }
+
+    private long read(final Source source, final Sink sink) throws IOException
+    {
+        final Object batch = TimeEvents.beginBatch();
+        long size = 0;
+        byte[] buf = new byte[bufferSize];
+        int start = 0;
+        int limit = 0;
+        // Where the search for the next line break continues, so that a long record is only scanned once however many reads it takes
+        int scanned = 0;
+        long record = csvHeader != null ? -1 : 0;
+        long found = 0;
+        column = csvColumn;
+        boolean eof = false;
+        while (!eof || start < limit)
+        {
+            final int lineEnd = indexOf(buf, Math.max(start, scanned), limit, NEW_LINE);
+            if (lineEnd < 0 && !eof)
+            {
+                // Move the partial record to the start of the buffer, and grow it if the record fills the whole buffer
+                scanned = limit;
+                if (start > 0)
+                {
+                    System.arraycopy(buf, start, buf, 0, limit - start);
+                    limit -= start;
+                    scanned -= start;
+                    start = 0;
+                }
+                else if (limit == buf.length)
+                {
+                    buf = Arrays.copyOf(buf, buf.length * 2);
+                }
+
+                final int read = source.read(buf, limit, buf.length - limit);
+                if (read < 0)
+                {
+                    eof = true;
+                }
+                else
+                {
+                    limit += read;
+                    size += read;
+                }
+                continue;
+            }
+
+            final int next = lineEnd < 0 ? limit : lineEnd + 1;
+            int end = lineEnd < 0 ? limit : lineEnd;
+            if (end > start && buf[end - 1] == CARRIAGE_RETURN)
+            {
+                end--;
+            }
+
+            if (end > start)
+            {
+                if (record < 0)
+                {
+                    column = findHeaderColumn(buf, start, end);
+                }
+                else if (locate(buf, start, end))
+                {
+                    parse(buf, record);
+                    sink.accept(record, parser.getEpochSecond(), parser.getNano());
+                    found++;
+                }
+                record++;
+            }
+            start = next;
+        }
+        TimeEvents.endBatch(batch, TimeEvents.READ_FIELDS, found, size);
+        return found;
+    }
+
+    private void parse(final byte[] buf, final long record)
+    {
+        try
+        {
+            parser.parseDateTime(buf, valueStart, valueEnd - valueStart);
+        }
+        catch (DateTimeParseException exc)
+        {
+            throw new DateTimeParseException("Invalid date-time in record " + record + ": " + exc.getMessage(), exc.getParsedString(), exc.getErrorIndex(), exc);
+        }
+        catch (DateTimeException exc)
+        {
+            throw new DateTimeException("Invalid date-time in record " + record + ": " + exc.getMessage(), exc);
+        }
+    }
+
+    private boolean locate(final byte[] buf, final int start, final int end)
+    {
+        if (jsonField != null)
+        {
+            return locateJsonField(buf, start, end);
+        }
+        return locateCsvColumn(buf, start, end, column) && valueEnd > valueStart;
+    }
+
+    private boolean locateJsonField(final byte[] buf, final int start, final int end)
+    {
+        int depth = 0;
+        int idx = start;
+        while (idx < end)
+        {
+            final byte b = buf[idx];
+            if (b == QUOTE)
+            {
+                final int stringEnd = endOfJsonString(buf, idx + 1, end);
+                if (depth == 1)
+                {
+                    final int colon = skipWhitespace(buf, stringEnd + 1, end);
+                    if (colon < end && buf[colon] == ':' && matches(buf, idx + 1, stringEnd, jsonField))
+                    {
+                        final int value = skipWhitespace(buf, colon + 1, end);
+                        if (value < end && buf[value] == QUOTE)
+                        {
+                            valueStart = value + 1;
+                            valueEnd = endOfJsonString(buf, valueStart, end);
+                            return valueEnd < end;
+                        }
+                        return false;
+                    }
+                }
+                idx = stringEnd + 1;
+            }
+            else
+            {
+                if (b == '{' || b == '[')
+                {
+                    depth++;
+                }
+                else if (b == '}' || b == ']')
+                {
+                    depth--;
+                }
+                idx++;
+            }
+        }
+        return false;
+    }
+
+    private boolean locateCsvColumn(final byte[] buf, final int start, final int end, final int wanted)
+    {
+        int idx = start;
+        for (int current = 0; current <= wanted; current++)
+        {
+            if (idx > end)
+            {
+                return false;
+            }
+
+            final int fieldEnd;
+            if (idx < end && buf[idx] == QUOTE)
+            {
+                valueStart = idx + 1;
+                valueEnd = endOfCsvQuoted(buf, valueStart, end);
+                fieldEnd = indexOf(buf, Math.min(valueEnd + 1, end), end, delimiter);
+            }
+            else
+            {
+                fieldEnd = indexOf(buf, idx, end, delimiter);
+                valueStart = idx;
+                valueEnd = fieldEnd < 0 ? end : fieldEnd;
+            }
+            idx = fieldEnd < 0 ? end + 1 : fieldEnd + 1;
+        }
+        return true;
+    }
+
+    private int findHeaderColumn(final byte[] buf, final int start, final int end)
+    {
+        for (int current = 0; locateCsvColumn(buf, start, end, current); current++)
+        {
+            if (matches(buf, valueStart, valueEnd, csvHeader))
+            {
+                return current;
+            }
+        }
+        throw new IllegalArgumentException("No column named '" + new String(csvHeader, StandardCharsets.UTF_8) + "' in header: " + new String(buf, start, end - start, StandardCharsets.UTF_8));
+    }
+
+    private static int endOfJsonString(final byte[] buf, final int start, final int end)
+    {
+        int idx = start;
+        while (idx < end && buf[idx] != QUOTE)
+        {
+            idx += buf[idx] == ESCAPE ? 2 : 1;
+        }
+        return Math.min(idx, end);
+    }
+
+    private static int endOfCsvQuoted(final byte[] buf, final int start, final int end)
+    {
+        int idx = start;
+        while (idx < end)
+        {
+            if (buf[idx] == QUOTE)
+            {
+                if (idx + 1 < end && buf[idx + 1] == QUOTE)
+                {
+                    idx += 2;
+                    continue;
+                }
+                return idx;
+            }
+            idx++;
+        }
+        return end;
+    }
+
+    private static int skipWhitespace(final byte[] buf, final int start, final int end)
+    {
+        int idx = start;
+        while (idx < end && (buf[idx] == ' ' || buf[idx] == '\t'))
+        {
+            idx++;
+        }
+        return idx;
+    }
+
+    private static boolean matches(final byte[] buf, final int start, final int end, final byte[] expected)
+    {
+        if (end - start != expected.length)
+        {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++)
+        {
+            if (buf[start + i] != expected[i])
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(final byte[] buf, final int start, final int end, final byte needle)
+    {
+        for (int i = start; i < end; i++)
+        {
+            if (buf[i] == needle)
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static byte toByte(final char delimiter)
+    {
+        if (delimiter > 127 || delimiter == QUOTE || delimiter == NEW_LINE || delimiter == CARRIAGE_RETURN)
+        {
+            throw new IllegalArgumentException("Invalid delimiter: " + delimiter);
+        }
+        return (byte) delimiter;
+    }
+
+    @FunctionalInterface
+    private interface Source
+    {
+        int read(byte[] buf, int offset, int length) throws IOException;
+    }
+}
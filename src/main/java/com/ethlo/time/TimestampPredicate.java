@@ -0,0 +1,153 @@
+package com.ethlo.time;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.function.Predicate;
+
+import com.ethlo.time.internal.fixed.ITUComparator;
+import com.ethlo.time.internal.fixed.ITUFieldParser;
+
+/**
+ * A predicate matching RFC-3339 date-times in text form against a fixed bound, like <code>event_time &gt; '2024-03-01T00:00:00Z'</code>.
+ * <p>
+ * The bound is parsed once when the predicate is created. Values with the same length and timezone offset as the bound are compared directly on the text,
+ * other values are parsed and compared on the point in time. See {@link ITU#compare(CharSequence, CharSequence)} for details.
+ */
+public class TimestampPredicate implements Predicate<CharSequence>
+{
+    private final String bound;
+    private final int zoneLength;
+    private final long epochSecond;
+    private final int nano;
+    private final int minResult;
+    private final int maxResult;
+
+    private TimestampPredicate(final String bound, final int minResult, final int maxResult)
+    {
+        final ITUFieldParser parsed = new ITUFieldParser().parseDateTime(bound);
+        this.bound = bound;
+        this.zoneLength = ITUComparator.zoneLength(bound);
+        this.epochSecond = parsed.getEpochSecond();
+        this.nano = parsed.getNano();
+        this.minResult = minResult;
+        this.maxResult = maxResult;
+    }
+
+    /**
+     * Matches date-times after the bound
+     *
+     * @param bound The bound, exclusive
+     * @return A new predicate
+     */
+    public static TimestampPredicate after(String bound)
+    {
+        return new TimestampPredicate(bound, 1, 1);
+    }
+
+    /**
+     * Matches date-times equal to or after the bound
+     *
+     * @param bound The bound, inclusive
+     * @return A new predicate
+     */
+    public static TimestampPredicate notBefore(String bound)
+    {
+        return new TimestampPredicate(bound, 0, 1);
+    }
+
+    /**
+     * Matches date-times before the bound
+     *
+     * @param bound The bound, exclusive
+     * @return A new predicate
+     */
+    public static TimestampPredicate before(String bound)
+    {
+        return new TimestampPredicate(bound, -1, -1);
+    }
+
+    /**
+     * Matches date-times equal to or before the bound
+     *
+     * @param bound The bound, inclusive
+     * @return A new predicate
+     */
+    public static TimestampPredicate notAfter(String bound)
+    {
+        return new TimestampPredicate(bound, -1, 0);
+    }
+
+    /**
+     * Matches date-times representing the same point in time as the bound
+     *
+     * @param bound The point in time to match
+     * @return A new predicate
+     */
+    public static TimestampPredicate equalTo(String bound)
+    {
+        return new TimestampPredicate(bound, 0, 0);
+    }
+
+    /**
+     * Matches date-times in the range from <code>start</code> (inclusive) to <code>end</code> (exclusive)
+     *
+     * @param start The start of the range, inclusive
+     * @param end   The end of the range, exclusive
+     * @return A new predicate
+     */
+    public static Predicate<CharSequence> between(String start, String end)
+    {
+        return notBefore(start).and(before(end));
+    }
+
+    @Override
+    public boolean test(final CharSequence value)
+    {
+        final int result = Integer.signum(compareToBound(value));
+        return result >= minResult && result <= maxResult;
+    }
+
+    private int compareToBound(final CharSequence value)
+    {
+        final int length = value.length();
+        if (zoneLength > 0 && length == bound.length() && ITUComparator.sameZone(bound, value, length - zoneLength, length))
+        {
+            final int result = ITUComparator.compareSameLayout(value, bound, zoneLength);
+            if (result != ITUComparator.NOT_COMPARABLE)
+            {
+                return result;
+            }
+        }
+
+        final ITUFieldParser parsed = new ITUFieldParser().parseDateTime(value);
+        return ITUComparator.compare(parsed.getEpochSecond(), parsed.getNano(), epochSecond, nano);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "TimestampPredicate{" +
+                "bound=" + bound +
+                ", minResult=" + minResult +
+                ", maxResult=" + maxResult +
+                '}';
+    }
+}
@@ -0,0 +1,193 @@
+package com.ethlo.time;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static com.ethlo.time.internal.fixed.ITUParser.DATE_SEPARATOR;
+import static com.ethlo.time.internal.fixed.ITUParser.MINUS;
+import static com.ethlo.time.internal.fixed.ITUParser.PLUS;
+import static com.ethlo.time.internal.fixed.ITUParser.ZULU_LOWER;
+import static com.ethlo.time.internal.fixed.ITUParser.ZULU_UPPER;
+
+import java.nio.charset.StandardCharsets;
+
+import com.ethlo.time.internal.events.TimeEvents;
+import com.ethlo.time.internal.fixed.ITUFieldParser;
+
+/**
+ * Locates and parses date-times embedded anywhere in text, like log lines, without regular expressions.
+ * <p>
+ * Candidates are found with cheap anchor checks on the <code>yyyy-MM-dd</code> prefix, and must not directly follow another digit. Each candidate is validated like
+ * {@link ITU#parseDateTime(String)}, and candidates that are not valid are skipped. RFC-3339 date-times with seconds and optional fractions are read directly from the input,
+ * while W3C date-times with only hours and minutes, like <code>2017-12-21T12:20+01:00</code>, are parsed by the standard parser.
+ * <p>
+ * Only date-times with a timezone offset are reported, as these represent a point in time. Instances are not thread-safe, but can be reused.
+ */
+public class TimestampScanner
+{
+    private static final int MINUTE_LENGTH = 16;
+    private static final int MIN_CANDIDATE_LENGTH = MINUTE_LENGTH + 1;
+    private static final int MAX_MINUTE_CANDIDATE_LENGTH = MINUTE_LENGTH + 6;
+
+    private final ITUFieldParser parser = new ITUFieldParser();
+
+    /**
+     * Receives the date-times found by the scanner
+     */
+    @FunctionalInterface
+    public interface Callback
+    {
+        /**
+         * Called for each date-time found
+         *
+         * @param start       The index of the first character of the date-time
+         * @param end         The index after the last character of the date-time
+         * @param epochSecond The number of seconds from 1970-01-01T00:00:00Z
+         * @param nano        The nanoseconds of the second
+         */
+        void onTimestamp(int start, int end, long epochSecond, int nano);
+    }
+
+    /**
+     * Scan the text for date-times
+     *
+     * @param text     The text to scan
+     * @param callback The callback to notify for each date-time found
+     * @return The number of date-times found
+     */
+    public int scan(CharSequence text, Callback callback)
+    {
+        return scan(text, 0, text.length(), callback);
+    }
+
+    /**
+     * Scan a region of the text for date-times
+     *
+     * @param text     The text to scan
+     * @param offset   The index to start scanning from
+     * @param limit    The index after the last character to scan
+     * @param callback The callback to notify for each date-time found
+     * @return The number of date-times found
+     */
+    public int scan(CharSequence text, int offset, int limit, Callback callback)
+    {
+        final Object batch = TimeEvents.beginBatch();
+        int found = 0;
+        int idx = offset;
+        while (idx <= limit - MIN_CANDIDATE_LENGTH)
+        {
+            if (isCandidate(text, offset, idx) && (parser.read(text, idx, limit) || readMinutes(text, idx, limit)))
+            {
+                callback.onTimestamp(idx, parser.getEnd(), parser.getEpochSecond(), parser.getNano());
+                found++;
+                idx = parser.getEnd();
+            }
+            else
+            {
+                idx++;
+            }
+        }
+        TimeEvents.endBatch(batch, TimeEvents.SCAN, found, limit - offset);
+        return found;
+    }
+
+    /**
+     * Scan a region of ASCII bytes for date-times
+     *
+     * @param buf      The buffer to scan
+     * @param offset   The index to start scanning from
+     * @param limit    The index after the last byte to scan
+     * @param callback The callback to notify for each date-time found
+     * @return The number of date-times found
+     */
+    public int scan(byte[] buf, int offset, int limit, Callback callback)
+    {
+        final Object batch = TimeEvents.beginBatch();
+        int found = 0;
+        int idx = offset;
+        while (idx <= limit - MIN_CANDIDATE_LENGTH)
+        {
+            if (isCandidate(buf, offset, idx) && (parser.read(buf, idx, limit) || readMinutes(buf, idx, limit)))
+            {
+                callback.onTimestamp(idx, parser.getEnd(), parser.getEpochSecond(), parser.getNano());
+                found++;
+                idx = parser.getEnd();
+            }
+            else
+            {
+                idx++;
+            }
+        }
+        TimeEvents.endBatch(batch, TimeEvents.SCAN, found, limit - offset);
+        return found;
+    }
+
+    private static boolean isCandidate(final CharSequence text, final int offset, final int idx)
+    {
+        return text.charAt(idx + 4) == DATE_SEPARATOR
+                && text.charAt(idx + 7) == DATE_SEPARATOR
+                && isDigit(text.charAt(idx))
+                && isDigit(text.charAt(idx + 1))
+                && isDigit(text.charAt(idx + 2))
+                && isDigit(text.charAt(idx + 3))
+                && (idx == offset || !isDigit(text.charAt(idx - 1)));
+    }
+
+    private static boolean isCandidate(final byte[] buf, final int offset, final int idx)
+    {
+        return buf[idx + 4] == DATE_SEPARATOR
+                && buf[idx + 7] == DATE_SEPARATOR
+                && isDigit(buf[idx])
+                && isDigit(buf[idx + 1])
+                && isDigit(buf[idx + 2])
+                && isDigit(buf[idx + 3])
+                && (idx == offset || !isDigit(buf[idx - 1]));
+    }
+
+    private static boolean isDigit(final int c)
+    {
+        return c >= '0' && c <= '9';
+    }
+
+    private boolean readMinutes(final CharSequence text, final int idx, final int limit)
+    {
+        final int length = minuteCandidateLength(text.charAt(idx + MINUTE_LENGTH), limit - idx);
+        return length > 0 && parser.readMinutes(text.subSequence(idx, idx + length).toString(), idx);
+    }
+
+    private boolean readMinutes(final byte[] buf, final int idx, final int limit)
+    {
+        final int length = minuteCandidateLength((char) buf[idx + MINUTE_LENGTH], limit - idx);
+        return length > 0 && parser.readMinutes(new String(buf, idx, length, StandardCharsets.ISO_8859_1), idx);
+    }
+
+    private static int minuteCandidateLength(final char zone, final int available)
+    {
+        if (zone == ZULU_UPPER || zone == ZULU_LOWER)
+        {
+            return MIN_CANDIDATE_LENGTH;
+        }
+        else if ((zone == PLUS || zone == MINUS) && available >= MAX_MINUTE_CANDIDATE_LENGTH)
+        {
+            return MAX_MINUTE_CANDIDATE_LENGTH;
+        }
+        return -1;
+    }
+}
@@ -21,7 +21,6 @@ package com.ethlo.time;
  */
 
 import java.time.ZoneOffset;
-import java.util.Objects;
 
 /**
  * Container class for timezone offset, denoted by hours and minutes
@@ -104,7 +103,8 @@ public class TimezoneOffset
     @Override
     public int hashCode()
     {
-        return Objects.hash(hours, minutes);
+        // Same value as Objects.hash(hours, minutes), without boxing
+        return 31 * (31 + hours) + minutes;
     }
 
     @Override
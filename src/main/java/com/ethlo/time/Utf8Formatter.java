@@ -0,0 +1,183 @@
+package com.ethlo.time;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import com.ethlo.time.internal.fixed.ITUFormatter;
+
+/**
+ * Formats date-times as RFC-3339 ASCII bytes, which are also valid UTF-8, directly into a <code>byte[]</code> or {@link ByteBuffer}.
+ * <p>
+ * This avoids creating a {@link String} and encoding it again, for instance when writing JSON or HTTP responses. The output is the same as the corresponding
+ * {@link ITU} format method, optionally surrounded by double quotes so it can be written as a JSON string value.
+ * <p>
+ * Instances are immutable and thread-safe.
+ * <pre>
+ * final Utf8Formatter formatter = Utf8Formatter.utc(3).withQuotes();
+ * final int end = formatter.write(dateTime, buffer, position);
+ * </pre>
+ */
+public class Utf8Formatter
+{
+    private final ZoneOffset adjustTo;
+    private final Field lastIncluded;
+    private final int fractionDigits;
+    private final boolean quoted;
+
+    private Utf8Formatter(final ZoneOffset adjustTo, final Field lastIncluded, final int fractionDigits, final boolean quoted)
+    {
+        this.adjustTo = adjustTo;
+        this.lastIncluded = lastIncluded;
+        this.fractionDigits = fractionDigits;
+        this.quoted = quoted;
+    }
+
+    /**
+     * Format in the UTC timezone, like {@link ITU#formatUtc(OffsetDateTime, int)}
+     *
+     * @param fractionDigits The number of fraction digits in the second field
+     * @return A new formatter
+     */
+    public static Utf8Formatter utc(int fractionDigits)
+    {
+        return new Utf8Formatter(ZoneOffset.UTC, Field.SECOND, fractionDigits, false);
+    }
+
+    /**
+     * Format in the UTC timezone, limited to the granularity of the specified field, like {@link ITU#formatUtc(OffsetDateTime, Field)}
+     *
+     * @param lastIncluded The last included field
+     * @return A new formatter
+     */
+    public static Utf8Formatter utc(Field lastIncluded)
+    {
+        return new Utf8Formatter(ZoneOffset.UTC, lastIncluded, 0, false);
+    }
+
+    /**
+     * Format in the timezone of the input, like {@link ITU#format(OffsetDateTime, int)}
+     *
+     * @param fractionDigits The number of fraction digits in the second field
+     * @return A new formatter
+     */
+    public static Utf8Formatter sameOffset(int fractionDigits)
+    {
+        return new Utf8Formatter(null, Field.NANO, fractionDigits, false);
+    }
+
+    /**
+     * Surround the output with double quotes, like a JSON string value
+     *
+     * @return A new formatter
+     */
+    public Utf8Formatter withQuotes()
+    {
+        return new Utf8Formatter(adjustTo, lastIncluded, fractionDigits, true);
+    }
+
+    /**
+     * Returns the number of bytes written for the date-time
+     *
+     * @param dateTime The date-time to format
+     * @return The length in bytes
+     */
+    public int length(OffsetDateTime dateTime)
+    {
+        return ITUFormatter.length(offset(dateTime), lastIncluded, fractionDigits, quoted);
+    }
+
+    /**
+     * Write the date-time to the buffer
+     *
+     * @param dateTime The date-time to format
+     * @param target   The buffer to write to
+     * @param offset   The position in the buffer to start writing
+     * @return The position after the last byte written
+     * @throws IndexOutOfBoundsException If the date-time does not fit in the buffer
+     */
+    public int write(OffsetDateTime dateTime, byte[] target, int offset)
+    {
+        return ITUFormatter.formatTo(dateTime, offset(dateTime), lastIncluded, fractionDigits, target, offset, quoted);
+    }
+
+    /**
+     * Write the date-time to the buffer at its current position, and advance the position
+     *
+     * @param dateTime The date-time to format
+     * @param target   The buffer to write to
+     * @throws BufferOverflowException If the date-time does not fit in the remaining space of the buffer
+     */
+    public void write(OffsetDateTime dateTime, ByteBuffer target)
+    {
+        final ZoneOffset offset = offset(dateTime);
+        final int length = ITUFormatter.length(offset, lastIncluded, fractionDigits, quoted);
+        if (target.remaining() < length)
+        {
+            throw new BufferOverflowException();
+        }
+
+        if (target.hasArray())
+        {
+            final int position = target.position();
+            ITUFormatter.formatTo(dateTime, offset, lastIncluded, fractionDigits, target.array(), target.arrayOffset() + position, quoted);
+            target.position(position + length);
+        }
+        else
+        {
+            final byte[] buffer = new byte[length];
+            ITUFormatter.formatTo(dateTime, offset, lastIncluded, fractionDigits, buffer, 0, quoted);
+            target.put(buffer);
+        }
+    }
+
+    /**
+     * Format the date-time to a new byte array
+     *
+     * @param dateTime The date-time to format
+     * @return The bytes
+     */
+    public byte[] toBytes(OffsetDateTime dateTime)
+    {
+        final byte[] buffer = new byte[length(dateTime)];
+        write(dateTime, buffer, 0);
+        return buffer;
+    }
+
+    private ZoneOffset offset(final OffsetDateTime dateTime)
+    {
+        return adjustTo != null ? adjustTo : dateTime.getOffset();
+    }
+
+    @Override
+    public String toString()
+    {
+        return "Utf8Formatter{" +
+                "adjustTo=" + adjustTo +
+                ", lastIncluded=" + lastIncluded +
+                ", fractionDigits=" + fractionDigits +
+                ", quoted=" + quoted +
+                '}';
+    }
+}
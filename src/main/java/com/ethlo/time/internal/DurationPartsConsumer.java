@@ -26,9 +26,8 @@ import static com.ethlo.time.Duration.SECONDS_PER_MINUTE;
 import static com.ethlo.time.Duration.SECONDS_PER_WEEK;
 import static com.ethlo.time.internal.fixed.ITUParser.DIGITS_IN_NANO;
 
-import java.time.format.DateTimeParseException;
-
 import com.ethlo.time.Duration;
+import com.ethlo.time.internal.util.ErrorUtil;
 
 class DurationPartsConsumer
 {
@@ -55,12 +54,12 @@ class DurationPartsConsumer
         this.negative = negative;
     }
 
-    protected static void error(final String errorMessage, final String text, int index)
+    protected static void error(final String errorMessage, final CharSequence text, int index)
     {
-        throw new DateTimeParseException(errorMessage + ": " + text, text, index);
+        throw ErrorUtil.parseError(text, index, "%s: %s", errorMessage, text);
     }
 
-    public final void accept(final String text, final int index, final int length, final char unit, final long value)
+    public final void accept(final CharSequence text, final int index, final int length, final char unit, final long value)
     {
         final int relIndex = index - startOffset;
 
@@ -84,14 +83,14 @@ class DurationPartsConsumer
         {
             if (!dotFound)
             {
-                error("No unit defined for value " + value, text, index);
+                throw ErrorUtil.parseError(text, index, "No unit defined for value %d: %s", value, text);
             }
-            error("No unit defined for value " + (seconds % SECONDS_PER_MINUTE) + ItuDurationParser.DOT + value, text, index);
+            throw ErrorUtil.parseError(text, index, "No unit defined for value %d%s%d: %s", seconds % SECONDS_PER_MINUTE, ItuDurationParser.DOT, value, text);
         }
 
         if (length == 0 && (unit == ItuDurationParser.UNIT_WEEK || unit == ItuDurationParser.UNIT_DAY || unit == ItuDurationParser.UNIT_HOUR || unit == ItuDurationParser.UNIT_MINUTE || unit == ItuDurationParser.UNIT_SECOND || unit == ItuDurationParser.DOT))
         {
-            error("Zero-length value prior to unit '" + unit + "'", text, index);
+            throw ErrorUtil.parseError(text, index, "Zero-length value prior to unit '%s': %s", unit, text);
         }
 
         switch (unit)
@@ -223,19 +222,19 @@ class DurationPartsConsumer
                 break;
 
             default:
-                error("Invalid unit: " + unit, text, index);
+                throw ErrorUtil.parseError(text, index, "Invalid unit: %s: %s", unit, text);
         }
     }
 
-    private void assertNonFractional(final char unit, final String chars, final int index)
+    private void assertNonFractional(final char unit, final CharSequence chars, final int index)
     {
         if (readingFractionalPart)
         {
-            error("Cannot have fractional values for unit " + unit, chars, index);
+            throw ErrorUtil.parseError(chars, index, "Cannot have fractional values for unit %s: %s", unit, chars);
         }
     }
 
-    public void validate(String chars, int index)
+    public void validate(CharSequence chars, int index)
     {
         if (afterT && hFound + mFound + sFound == 0)
         {
@@ -260,7 +259,7 @@ class DurationPartsConsumer
         validateUnitOrder(chars);
     }
 
-    private void validateUnitOrder(String chars)
+    private void validateUnitOrder(CharSequence chars)
     {
         int lastIndex = -1;
         lastIndex = verifyUnitIndex(wFound, lastIndex, chars);
@@ -270,7 +269,7 @@ class DurationPartsConsumer
         lastIndex = verifyUnitIndex(sFound, lastIndex, chars);
     }
 
-    private int verifyUnitIndex(final int unitIndex, final int lastIndex, final String chars)
+    private int verifyUnitIndex(final int unitIndex, final int lastIndex, final CharSequence chars)
     {
         if (unitIndex > 0)
         {
@@ -24,7 +24,12 @@ import static com.ethlo.time.internal.DurationPartsConsumer.error;
 import static com.ethlo.time.internal.fixed.ITUParser.RADIX;
 import static com.ethlo.time.internal.fixed.ITUParser.sanityCheckInputParams;
 
+import java.nio.CharBuffer;
+import java.time.DateTimeException;
+
 import com.ethlo.time.Duration;
+import com.ethlo.time.internal.events.TimeEvents;
+import com.ethlo.time.internal.util.ErrorUtil;
 
 /**
  * <b>Rationale Against Supporting Years and Months</b>
@@ -54,12 +59,35 @@ public class ItuDurationParser
     public static final char MINUS = '-';
     public static final char UNIT_UNDEFINED = '\0';
 
-    public static Duration parse(final String chars)
+    /**
+     * The maximum length of a duration, which is well above the longest normalized duration of 40 characters. Longer input is rejected before it is read.
+     */
+    public static final int MAX_LENGTH = 64;
+
+    public static Duration parse(final CharSequence chars)
     {
         return parse(chars, 0);
     }
 
-    public static Duration parse(final String text, final int offset)
+    public static Duration parse(final CharSequence text, final int offset)
+    {
+        try
+        {
+            return doParse(text, offset);
+        }
+        catch (DateTimeException | ArithmeticException exc)
+        {
+            TimeEvents.failed(TimeEvents.PARSE_DURATION, text, exc);
+            throw exc;
+        }
+    }
+
+    public static Duration parse(final char[] buf, final int offset, final int length)
+    {
+        return parse(CharBuffer.wrap(buf, offset, length), 0);
+    }
+
+    private static Duration doParse(final CharSequence text, final int offset)
     {
         final int availableLength = sanityCheckInputParams(text, offset);
         if (availableLength == 0)
@@ -67,6 +95,12 @@ public class ItuDurationParser
             error("Duration cannot be empty", text, text.length() - 1);
         }
 
+        if (availableLength > MAX_LENGTH)
+        {
+            final CharSequence prefix = text.subSequence(0, offset + MAX_LENGTH);
+            throw ErrorUtil.parseError(prefix, offset + MAX_LENGTH, "Duration exceeds the maximum length of %d: %s...", MAX_LENGTH, prefix);
+        }
+
         boolean negative = false;
         int index = offset;
 
@@ -89,7 +123,7 @@ public class ItuDurationParser
         return handler.getResult();
     }
 
-    private static int readUntilNonDigit(final String text, final int offset, final DurationPartsConsumer consumer)
+    private static int readUntilNonDigit(final CharSequence text, final int offset, final DurationPartsConsumer consumer)
     {
         long value = 0;
         int index = offset;
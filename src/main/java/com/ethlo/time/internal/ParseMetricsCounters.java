@@ -0,0 +1,185 @@
+package com.ethlo.time.internal;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.DateTimeException;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.ethlo.time.DateTime;
+import com.ethlo.time.Field;
+import com.ethlo.time.LeapSecondException;
+import com.ethlo.time.ParseMetrics;
+import com.ethlo.time.TimezoneOffset;
+
+/**
+ * The counters behind {@link ParseMetrics}. The counters are striped, so recording from many threads does not contend.
+ */
+public final class ParseMetricsCounters
+{
+    public static final int MAX_LENGTH = 64;
+    public static final int OFFSET_STEP_MINUTES = 15;
+    public static final int MAX_OFFSET_STEPS = 18 * 60 / OFFSET_STEP_MINUTES;
+
+    private static volatile boolean enabled = Boolean.getBoolean(ParseMetrics.ENABLED_PROPERTY);
+
+    private static final LongAdder[] FIELDS = create(Field.values().length);
+    private static final LongAdder[] ERRORS = create(ParseMetrics.ErrorType.values().length);
+    private static final LongAdder[] LENGTHS = create(MAX_LENGTH + 1);
+    private static final LongAdder[] OFFSETS = create(MAX_OFFSET_STEPS * 2 + 1);
+    private static final LongAdder OTHER_OFFSETS = new LongAdder();
+    private static final LongAdder NO_OFFSET = new LongAdder();
+
+    private ParseMetricsCounters()
+    {
+    }
+
+    public static boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    public static void setEnabled(final boolean enabled)
+    {
+        ParseMetricsCounters.enabled = enabled;
+    }
+
+    public static void recordSuccess(final DateTime dateTime, final int length)
+    {
+        final TimezoneOffset offset = dateTime.getOffset().orElse(null);
+        if (offset == null)
+        {
+            recordSuccess(dateTime.getMostGranularField(), length);
+            return;
+        }
+        recordSuccess(dateTime.getMostGranularField(), offset.getTotalSeconds(), length);
+    }
+
+    public static void recordSuccess(final Field field, final int length)
+    {
+        FIELDS[field.ordinal()].increment();
+        LENGTHS[Math.min(length, MAX_LENGTH)].increment();
+        NO_OFFSET.increment();
+    }
+
+    public static void recordSuccess(final Field field, final int offsetSeconds, final int length)
+    {
+        FIELDS[field.ordinal()].increment();
+        LENGTHS[Math.min(length, MAX_LENGTH)].increment();
+        final int minutes = offsetSeconds / 60;
+        final int steps = minutes / OFFSET_STEP_MINUTES;
+        if (minutes % OFFSET_STEP_MINUTES == 0 && Math.abs(steps) <= MAX_OFFSET_STEPS)
+        {
+            OFFSETS[steps + MAX_OFFSET_STEPS].increment();
+        }
+        else
+        {
+            OTHER_OFFSETS.increment();
+        }
+    }
+
+    public static void recordFailure(final DateTimeException exc, final int length)
+    {
+        ERRORS[errorType(exc).ordinal()].increment();
+        LENGTHS[Math.max(0, Math.min(length, MAX_LENGTH))].increment();
+    }
+
+    private static ParseMetrics.ErrorType errorType(final DateTimeException exc)
+    {
+        if (exc instanceof LeapSecondException)
+        {
+            return ParseMetrics.ErrorType.LEAP_SECOND;
+        }
+        else if (exc instanceof DateTimeParseException)
+        {
+            return ParseMetrics.ErrorType.INVALID_FORMAT;
+        }
+        return ParseMetrics.ErrorType.INVALID_VALUE;
+    }
+
+    public static long[] fields()
+    {
+        return sums(FIELDS);
+    }
+
+    public static long[] errors()
+    {
+        return sums(ERRORS);
+    }
+
+    public static long[] lengths()
+    {
+        return sums(LENGTHS);
+    }
+
+    public static long[] offsets()
+    {
+        return sums(OFFSETS);
+    }
+
+    public static long otherOffsets()
+    {
+        return OTHER_OFFSETS.sum();
+    }
+
+    public static long noOffset()
+    {
+        return NO_OFFSET.sum();
+    }
+
+    public static void reset()
+    {
+        reset(FIELDS);
+        reset(ERRORS);
+        reset(LENGTHS);
+        reset(OFFSETS);
+        OTHER_OFFSETS.reset();
+        NO_OFFSET.reset();
+    }
+
+    private static LongAdder[] create(final int size)
+    {
+        final LongAdder[] adders = new LongAdder[size];
+        for (int i = 0; i < size; i++)
+        {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    private static long[] sums(final LongAdder[] adders)
+    {
+        final long[] sums = new long[adders.length];
+        for (int i = 0; i < adders.length; i++)
+        {
+            sums[i] = adders[i].sum();
+        }
+        return sums;
+    }
+
+    private static void reset(final LongAdder[] adders)
+    {
+        for (LongAdder adder : adders)
+        {
+            adder.reset();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.ethlo.time.internal.events;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Hooks for emitting Java Flight Recorder events.
+ * <p>
+ * This is the Java 8 version, where all hooks are no-ops that the JIT compiler removes. The Java 11+ version in <code>META-INF/versions/11</code> emits the events.
+ */
+public final class TimeEvents
+{
+    public static final String PARSE_DATE_TIME = "parseDateTime";
+    public static final String PARSE_LENIENT = "parseLenient";
+    public static final String PARSE_DURATION = "parseDuration";
+    public static final String FORMAT = "format";
+    public static final String SCAN = "scan";
+    public static final String READ_FIELDS = "readFields";
+    public static final String MAX_FAILURES_PER_SECOND_PROPERTY = "com.ethlo.time.events.maxFailuresPerSecond";
+    public static final int DEFAULT_MAX_FAILURES_PER_SECOND = 100;
+
+    private TimeEvents()
+    {
+    }
+
+    /**
+     * Signal that an operation failed
+     *
+     * @param operation The operation that failed
+     * @param input     The input to the operation, only turned into text if the event is recorded
+     * @param exc       The failure
+     */
+    public static void failed(final String operation, final Object input, final RuntimeException exc)
+    {
+    }
+
+    /**
+     * Signal the start of a batch operation
+     *
+     * @return A handle to pass to {@link #endBatch(Object, String, long, long)}, or <code>null</code> if no event is recorded
+     */
+    public static Object beginBatch()
+    {
+        return null;
+    }
+
+    /**
+     * Signal the end of a batch operation
+     *
+     * @param batch     The handle returned by {@link #beginBatch()}
+     * @param operation The batch operation
+     * @param count     The number of values processed
+     * @param size      The size of the input processed, in bytes or characters
+     */
+    public static void endBatch(final Object batch, final String operation, final long count, final long size)
+    {
+    }
+}
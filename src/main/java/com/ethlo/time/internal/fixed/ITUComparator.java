@@ -0,0 +1,188 @@
+package com.ethlo.time.internal.fixed;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static com.ethlo.time.internal.fixed.ITUParser.DATE_SEPARATOR;
+import static com.ethlo.time.internal.fixed.ITUParser.FRACTION_SEPARATOR;
+import static com.ethlo.time.internal.fixed.ITUParser.MINUS;
+import static com.ethlo.time.internal.fixed.ITUParser.PLUS;
+import static com.ethlo.time.internal.fixed.ITUParser.TIME_SEPARATOR;
+import static com.ethlo.time.internal.fixed.ITUParser.ZULU_LOWER;
+import static com.ethlo.time.internal.fixed.ITUParser.ZULU_UPPER;
+
+import com.ethlo.time.internal.util.DateTimeMath;
+
+/**
+ * Compares RFC-3339 date-times in text form.
+ * <p>
+ * Two date-times of the same length and with the same timezone offset have the same layout, and are ordered like their characters, apart from the date/time separator.
+ * These are compared directly on the text. Any other combination is parsed and compared on the point in time.
+ */
+public class ITUComparator
+{
+    /**
+     * Returned by {@link #compareSameLayout(CharSequence, CharSequence, int)} when the values cannot be compared on the text
+     */
+    public static final int NOT_COMPARABLE = Integer.MIN_VALUE;
+
+    private static final int DATE_TIME_SEPARATOR_INDEX = 10;
+
+    private ITUComparator()
+    {
+    }
+
+    public static int compare(final CharSequence a, final CharSequence b)
+    {
+        final int length = a.length();
+        if (length == b.length())
+        {
+            final int zoneLength = zoneLength(a);
+            if (zoneLength > 0 && sameZone(a, b, length - zoneLength, length))
+            {
+                final int result = compareSameLayout(a, b, zoneLength);
+                if (result != NOT_COMPARABLE)
+                {
+                    return result;
+                }
+            }
+        }
+
+        final ITUFieldParser first = new ITUFieldParser().parseDateTime(a);
+        final ITUFieldParser second = new ITUFieldParser().parseDateTime(b);
+        return compare(first.getEpochSecond(), first.getNano(), second.getEpochSecond(), second.getNano());
+    }
+
+    public static int compare(final long epochSecondA, final int nanoA, final long epochSecondB, final int nanoB)
+    {
+        final int result = Long.compare(epochSecondA, epochSecondB);
+        return result != 0 ? result : Integer.compare(nanoA, nanoB);
+    }
+
+    /**
+     * Returns the length of the timezone offset at the end of the text, or -1 if the text does not end with one
+     *
+     * @param text The date-time text
+     * @return The length of the offset, or -1
+     */
+    public static int zoneLength(final CharSequence text)
+    {
+        final int length = text.length();
+        if (length < ITUFieldParser.MIN_LENGTH)
+        {
+            return -1;
+        }
+
+        final char last = text.charAt(length - 1);
+        if (last == ZULU_UPPER || last == ZULU_LOWER)
+        {
+            return 1;
+        }
+
+        final char sign = text.charAt(length - 6);
+        return (sign == PLUS || sign == MINUS) && text.charAt(length - 3) == TIME_SEPARATOR ? 6 : -1;
+    }
+
+    public static boolean sameZone(final CharSequence a, final CharSequence b, final int start, final int end)
+    {
+        if (end - start == 1)
+        {
+            final char c = b.charAt(start);
+            return c == ZULU_UPPER || c == ZULU_LOWER;
+        }
+
+        for (int i = start; i < end; i++)
+        {
+            if (a.charAt(i) != b.charAt(i))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compare two date-times of the same length and with the same timezone offset directly on the text.
+     * <p>
+     * The fields of both values are range checked first. Anything the full parser might treat differently, like leap seconds, invalid dates or the
+     * 'Local Offset Convention' of <code>-00:00</code>, is not compared on the text, so that it is accepted or rejected exactly like by the full parser.
+     *
+     * @param a          The first date-time
+     * @param b          The second date-time, of the same length and with the same offset as the first
+     * @param zoneLength The length of the timezone offset
+     * @return The result of the comparison, or {@link #NOT_COMPARABLE} if the values must be parsed to be compared
+     */
+    public static int compareSameLayout(final CharSequence a, final CharSequence b, final int zoneLength)
+    {
+        final int end = a.length() - zoneLength;
+        if (!isValid(a, end, zoneLength) || !isValid(b, end, zoneLength))
+        {
+            return NOT_COMPARABLE;
+        }
+
+        for (int i = 0; i < end; i++)
+        {
+            final char ca = a.charAt(i);
+            final char cb = b.charAt(i);
+            if (ca != cb && i != DATE_TIME_SEPARATOR_INDEX)
+            {
+                return ca - cb;
+            }
+        }
+        return 0;
+    }
+
+    private static boolean isValid(final CharSequence text, final int end, final int zoneLength)
+    {
+        if (end < 19
+                || text.charAt(4) != DATE_SEPARATOR
+                || text.charAt(7) != DATE_SEPARATOR
+                || !ITUFieldParser.isDateTimeSeparator(text.charAt(DATE_TIME_SEPARATOR_INDEX))
+                || text.charAt(13) != TIME_SEPARATOR
+                || text.charAt(16) != TIME_SEPARATOR
+                || (end != 19 && (end < 21 || end > 20 + ITUParser.DIGITS_IN_NANO || text.charAt(19) != FRACTION_SEPARATOR)))
+        {
+            return false;
+        }
+
+        final int year = ITUFieldParser.digits4(text, 0);
+        final int month = ITUFieldParser.digits2(text, 5);
+        final int day = ITUFieldParser.digits2(text, 8);
+        final int hour = ITUFieldParser.digits2(text, 11);
+        final int minute = ITUFieldParser.digits2(text, 14);
+        final int second = ITUFieldParser.digits2(text, 17);
+        if ((year | day | hour | minute | second) < 0 || month < 1 || month > 12
+                || day < 1 || day > DateTimeMath.lengthOfMonth(year, month) || hour > 23 || minute > 59 || second > 59)
+        {
+            return false;
+        }
+
+        for (int i = 20; i < end; i++)
+        {
+            final char c = text.charAt(i);
+            if (c < '0' || c > '9')
+            {
+                return false;
+            }
+        }
+
+        return zoneLength == 1 || ITUFieldParser.offsetSeconds(text.charAt(end), ITUFieldParser.digits2(text, end + 1), ITUFieldParser.digits2(text, end + 4)) != Integer.MIN_VALUE;
+    }
+}
@@ -0,0 +1,673 @@
+package com.ethlo.time.internal.fixed;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static com.ethlo.time.internal.fixed.ITUParser.DATE_SEPARATOR;
+import static com.ethlo.time.internal.fixed.ITUParser.DIGITS_IN_NANO;
+import static com.ethlo.time.internal.fixed.ITUParser.FRACTION_SEPARATOR;
+import static com.ethlo.time.internal.fixed.ITUParser.MINUS;
+import static com.ethlo.time.internal.fixed.ITUParser.PLUS;
+import static com.ethlo.time.internal.fixed.ITUParser.SEPARATOR_LOWER;
+import static com.ethlo.time.internal.fixed.ITUParser.SEPARATOR_SPACE;
+import static com.ethlo.time.internal.fixed.ITUParser.SEPARATOR_UPPER;
+import static com.ethlo.time.internal.fixed.ITUParser.TIME_SEPARATOR;
+import static com.ethlo.time.internal.fixed.ITUParser.ZULU_LOWER;
+import static com.ethlo.time.internal.fixed.ITUParser.ZULU_UPPER;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
+
+import com.ethlo.time.DateTime;
+import com.ethlo.time.DateTimeVisitor;
+import com.ethlo.time.Field;
+import com.ethlo.time.ParseConfig;
+import com.ethlo.time.TimezoneOffset;
+import com.ethlo.time.internal.util.AsciiDigits;
+import com.ethlo.time.internal.util.DateTimeMath;
+
+/**
+ * Reads complete RFC-3339 date-times (second granularity or finer, with a timezone offset) into primitive fields, without creating any objects.
+ * <p>
+ * The read methods only accept well-formed input with all fields in range, and return <code>false</code> for anything else. The parse methods
+ * hand such input over to {@link ITUParser}, so that errors (and any input the fast path does not cover) are handled exactly like {@link ITUParser#parseDateTime(CharSequence, int)}.
+ * <p>
+ * Instances are mutable and not thread-safe, but may be reused for any number of reads.
+ */
+public final class ITUFieldParser
+{
+    /**
+     * The length of the shortest possible date-time: <code>yyyy-MM-ddTHH:mm:ssZ</code>
+     */
+    public static final int MIN_LENGTH = 20;
+
+    private static final int[] POW10 = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000};
+    private static final int SECONDS_PER_DAY = 86_400;
+
+    private int year;
+    private int month;
+    private int day;
+    private int hour;
+    private int minute;
+    private int second;
+    private int nano;
+    private int fractionDigits;
+    private int offsetSeconds;
+    private int end;
+
+    /**
+     * Parse the text as an RFC-3339 date-time, failing on trailing data
+     *
+     * @param text The text to parse
+     * @return This instance, holding the parsed values
+     */
+    public ITUFieldParser parseDateTime(final CharSequence text)
+    {
+        Objects.requireNonNull(text, "text cannot be null");
+        if (!read(text, 0, text.length()) || end != text.length())
+        {
+            fallback(text.toString());
+        }
+        return this;
+    }
+
+    /**
+     * Parse the ASCII bytes as an RFC-3339 date-time, failing on trailing data
+     *
+     * @param buf    The buffer holding the text
+     * @param offset The start of the text in the buffer
+     * @param length The length of the text
+     * @return This instance, holding the parsed values
+     */
+    public ITUFieldParser parseDateTime(final byte[] buf, final int offset, final int length)
+    {
+        final int limit = checkBounds(buf, offset, length);
+        if (!read(buf, offset, limit) || end != limit)
+        {
+            fallback(new String(buf, offset, length, StandardCharsets.ISO_8859_1));
+        }
+        return this;
+    }
+
+    /**
+     * Attempt to read a date-time starting at <code>offset</code>. Data after the date-time is ignored, see {@link #getEnd()}.
+     *
+     * @param text   The text to read from
+     * @param offset The index of the first character of the date-time
+     * @param limit  The index after the last character that may be read
+     * @return Whether a valid date-time was read
+     */
+    public boolean read(final CharSequence text, final int offset, final int limit)
+    {
+        if (limit - offset < MIN_LENGTH || !isDateTimeSeparator(text.charAt(offset + 10)))
+        {
+            return false;
+        }
+
+        final long fraction = readFraction(text, offset + 19, limit);
+        if (fraction < 0)
+        {
+            return false;
+        }
+        final int zone = zoneIndex(offset, fraction);
+        return set(readDate(text, offset), readTime(text, offset + 11), fraction, readZone(text, zone, limit), zone + zoneLength(text.charAt(zone)));
+    }
+
+    /**
+     * Attempt to read a date-time from a character buffer starting at <code>offset</code>. Data after the date-time is ignored, see {@link #getEnd()}.
+     *
+     * @param buf    The buffer to read from
+     * @param offset The index of the first character of the date-time
+     * @param limit  The index after the last character that may be read
+     * @return Whether a valid date-time was read
+     */
+    public boolean read(final char[] buf, final int offset, final int limit)
+    {
+        if (limit - offset < MIN_LENGTH || !isDateTimeSeparator(buf[offset + 10]))
+        {
+            return false;
+        }
+
+        final long fraction = readFraction(buf, offset + 19, limit);
+        if (fraction < 0)
+        {
+            return false;
+        }
+        final int zone = zoneIndex(offset, fraction);
+        return set(readDate(buf, offset), readTime(buf, offset + 11), fraction, readZone(buf, zone, limit), zone + zoneLength(buf[zone]));
+    }
+
+    /**
+     * Attempt to read a date-time from ASCII bytes starting at <code>offset</code>. Data after the date-time is ignored, see {@link #getEnd()}.
+     *
+     * @param buf    The buffer to read from
+     * @param offset The index of the first byte of the date-time
+     * @param limit  The index after the last byte that may be read
+     * @return Whether a valid date-time was read
+     */
+    public boolean read(final byte[] buf, final int offset, final int limit)
+    {
+        if (limit - offset < MIN_LENGTH || !isDateTimeSeparator((char) buf[offset + 10]))
+        {
+            return false;
+        }
+
+        final long fraction = readFraction(buf, offset + 19, limit);
+        if (fraction < 0)
+        {
+            return false;
+        }
+        final int zone = zoneIndex(offset, fraction);
+        return set(AsciiDigits.readDate(buf, offset), AsciiDigits.readTime(buf, offset + 11), fraction, readZone(buf, zone, limit), zone + zoneLength((char) buf[zone]));
+    }
+
+    /**
+     * Attempt to read a date or date-time of any granularity accepted by {@link ITUParser#parseLenient(CharSequence, ParseConfig, int)} with the default config.
+     * The text must end at <code>limit</code>. Besides the layouts read by {@link #read(CharSequence, int, int)}, only the layouts without a timezone offset and
+     * without fractions are read, anything else is left for the full parser.
+     *
+     * @param text   The text to read from
+     * @param offset The index of the first character of the date-time
+     * @param limit  The index after the last character of the date-time
+     * @return The granularity of the date-time read, or <code>null</code> if it was not read. The offset is {@link DateTimeVisitor#NO_OFFSET} if there is none.
+     */
+    public Field readLenient(final CharSequence text, final int offset, final int limit)
+    {
+        final int length = limit - offset;
+        if (length >= MIN_LENGTH)
+        {
+            if (read(text, offset, limit) && end == limit)
+            {
+                return fractionDigits > 0 ? Field.NANO : Field.SECOND;
+            }
+            return null;
+        }
+
+        if (length != 4 && length != 7 && length != 10 && length != 16 && length != 19)
+        {
+            return null;
+        }
+
+        final int years = digits4(text, offset);
+        if (years < 0)
+        {
+            return null;
+        }
+        if (length == 4)
+        {
+            return local(Field.YEAR, years, 0, 0, 0, 0, 0, limit);
+        }
+
+        final int months = text.charAt(offset + 4) == DATE_SEPARATOR ? digits2(text, offset + 5) : -1;
+        if (months < 1 || months > 12)
+        {
+            return null;
+        }
+        if (length == 7)
+        {
+            return local(Field.MONTH, years, months, 0, 0, 0, 0, limit);
+        }
+
+        final int days = text.charAt(offset + 7) == DATE_SEPARATOR ? digits2(text, offset + 8) : -1;
+        if (days < 1 || days > DateTimeMath.lengthOfMonth(years, months))
+        {
+            return null;
+        }
+        if (length == 10)
+        {
+            return local(Field.DAY, years, months, days, 0, 0, 0, limit);
+        }
+
+        final int hours = isDateTimeSeparator(text.charAt(offset + 10)) ? digits2(text, offset + 11) : -1;
+        final int minutes = text.charAt(offset + 13) == TIME_SEPARATOR ? digits2(text, offset + 14) : -1;
+        if (hours < 0 || hours > 23 || minutes < 0 || minutes > 59)
+        {
+            return null;
+        }
+        if (length == 16)
+        {
+            return local(Field.MINUTE, years, months, days, hours, minutes, 0, limit);
+        }
+
+        final int seconds = text.charAt(offset + 16) == TIME_SEPARATOR ? digits2(text, offset + 17) : -1;
+        if (seconds < 0 || seconds > 59)
+        {
+            return null;
+        }
+        return local(Field.SECOND, years, months, days, hours, minutes, seconds, limit);
+    }
+
+    private Field local(final Field field, final int years, final int months, final int days, final int hours, final int minutes, final int seconds, final int end)
+    {
+        this.year = years;
+        this.month = months;
+        this.day = days;
+        this.hour = hours;
+        this.minute = minutes;
+        this.second = seconds;
+        this.nano = 0;
+        this.fractionDigits = 0;
+        this.offsetSeconds = DateTimeVisitor.NO_OFFSET;
+        this.end = end;
+        return field;
+    }
+
+    /**
+     * Parse a date-time with minute granularity and a timezone offset, like <code>2017-12-21T12:20+01:00</code>, with the standard parser.
+     *
+     * @param text  The date-time, without any trailing data
+     * @param start The index of the date-time in the text it was taken from, used to calculate {@link #getEnd()}
+     * @return Whether a valid date-time was read
+     */
+    public boolean readMinutes(final String text, final int start)
+    {
+        final DateTime dateTime;
+        try
+        {
+            dateTime = ITUParser.parse(text, ParseConfig.DEFAULT, 0);
+        }
+        catch (DateTimeException exc)
+        {
+            return false;
+        }
+
+        final TimezoneOffset offset = dateTime.getOffset().orElse(null);
+        return dateTime.getMostGranularField() == Field.MINUTE
+                && offset != null
+                && set(dateTime.getYear(), dateTime.getMonth(), dateTime.getDayOfMonth(), dateTime.getHour(), dateTime.getMinute(), 0, 0, 0, offset.getTotalSeconds(), start + dateTime.getParseLength());
+    }
+
+    private boolean set(final int date, final int time, final long fraction, final int tzSeconds, final int end)
+    {
+        return (date | time) >= 0
+                && tzSeconds != Integer.MIN_VALUE
+                && set(date / 10_000, (date / 100) % 100, date % 100, time / 10_000, (time / 100) % 100, time % 100, (int) (fraction >>> 4), (int) (fraction & 0xF), tzSeconds, end);
+    }
+
+    private boolean set(final int years, final int months, final int days, final int hours, final int minutes, final int seconds, final int nanos, final int fractions, final int tzSeconds, final int end)
+    {
+        // Leap seconds and out of range values are left for the full parser to report
+        if (months < 1 || months > 12 || days < 1 || days > DateTimeMath.lengthOfMonth(years, months) || hours > 23 || minutes > 59 || seconds > 59)
+        {
+            return false;
+        }
+
+        this.year = years;
+        this.month = months;
+        this.day = days;
+        this.hour = hours;
+        this.minute = minutes;
+        this.second = seconds;
+        this.nano = nanos;
+        this.fractionDigits = fractions;
+        this.offsetSeconds = tzSeconds;
+        this.end = end;
+        return true;
+    }
+
+    private void fallback(final String text)
+    {
+        final DateTime dateTime = ITUParser.parse(text, ParseConfig.DEFAULT, 0);
+        final OffsetDateTime validated = ITUParser.toOffsetDateTime(dateTime, text);
+        this.year = validated.getYear();
+        this.month = validated.getMonthValue();
+        this.day = validated.getDayOfMonth();
+        this.hour = validated.getHour();
+        this.minute = validated.getMinute();
+        this.second = validated.getSecond();
+        this.nano = validated.getNano();
+        this.fractionDigits = dateTime.getFractionDigits();
+        this.offsetSeconds = validated.getOffset().getTotalSeconds();
+        this.end = dateTime.getParseLength();
+    }
+
+    static int offsetSeconds(final char sign, final int hours, final int minutes)
+    {
+        if ((hours | minutes) < 0 || minutes > 59 || hours > 18 || (hours == 18 && minutes > 0))
+        {
+            return Integer.MIN_VALUE;
+        }
+
+        final int total = hours * 3600 + minutes * 60;
+        if (sign == MINUS)
+        {
+            // -00:00 is the 'Local Offset Convention', which is not allowed
+            return total != 0 ? -total : Integer.MIN_VALUE;
+        }
+        return total;
+    }
+
+    static boolean isDateTimeSeparator(final char c)
+    {
+        return c == SEPARATOR_UPPER || c == SEPARATOR_LOWER || c == SEPARATOR_SPACE;
+    }
+
+    private static int zoneIndex(final int offset, final long fraction)
+    {
+        final int digits = (int) (fraction & 0xF);
+        return offset + 19 + (digits > 0 ? digits + 1 : 0);
+    }
+
+    private static int zoneLength(final char c)
+    {
+        return c == ZULU_UPPER || c == ZULU_LOWER ? 1 : 6;
+    }
+
+    /**
+     * Combine the fraction read by one of the <code>readFraction</code> methods
+     *
+     * @return <code>nanos &lt;&lt; 4 | digits</code>, or -1 if there are no digits or no room for a timezone offset after them
+     */
+    private static long fraction(final int value, final int digits, final int end, final int limit)
+    {
+        if (digits == 0 || end >= limit)
+        {
+            return -1;
+        }
+        return (long) (value * POW10[DIGITS_IN_NANO - digits]) << 4 | digits;
+    }
+
+    private static long readFraction(final CharSequence text, final int start, final int limit)
+    {
+        if (text.charAt(start) != FRACTION_SEPARATOR)
+        {
+            return 0;
+        }
+        int idx = start + 1;
+        final int max = Math.min(limit, idx + DIGITS_IN_NANO);
+        int value = 0;
+        char c;
+        while (idx < max && (c = text.charAt(idx)) >= '0' && c <= '9')
+        {
+            value = value * 10 + (c - '0');
+            idx++;
+        }
+        return fraction(value, idx - start - 1, idx, limit);
+    }
+
+    private static long readFraction(final char[] buf, final int start, final int limit)
+    {
+        if (buf[start] != FRACTION_SEPARATOR)
+        {
+            return 0;
+        }
+        int idx = start + 1;
+        final int max = Math.min(limit, idx + DIGITS_IN_NANO);
+        int value = 0;
+        char c;
+        while (idx < max && (c = buf[idx]) >= '0' && c <= '9')
+        {
+            value = value * 10 + (c - '0');
+            idx++;
+        }
+        return fraction(value, idx - start - 1, idx, limit);
+    }
+
+    private static long readFraction(final byte[] buf, final int start, final int limit)
+    {
+        if (buf[start] != FRACTION_SEPARATOR)
+        {
+            return 0;
+        }
+        int idx = start + 1;
+        final int max = Math.min(limit, idx + DIGITS_IN_NANO);
+        int value = 0;
+        byte c;
+        while (idx < max && (c = buf[idx]) >= '0' && c <= '9')
+        {
+            value = value * 10 + (c - '0');
+            idx++;
+        }
+        return fraction(value, idx - start - 1, idx, limit);
+    }
+
+    private static int readZone(final CharSequence text, final int idx, final int limit)
+    {
+        final char c = text.charAt(idx);
+        if (c == ZULU_UPPER || c == ZULU_LOWER)
+        {
+            return 0;
+        }
+        return (c == PLUS || c == MINUS) && limit - idx >= 6 && text.charAt(idx + 3) == TIME_SEPARATOR ? offsetSeconds(c, digits2(text, idx + 1), digits2(text, idx + 4)) : Integer.MIN_VALUE;
+    }
+
+    private static int readZone(final char[] buf, final int idx, final int limit)
+    {
+        final char c = buf[idx];
+        if (c == ZULU_UPPER || c == ZULU_LOWER)
+        {
+            return 0;
+        }
+        return (c == PLUS || c == MINUS) && limit - idx >= 6 && buf[idx + 3] == TIME_SEPARATOR ? offsetSeconds(c, digits2(buf, idx + 1), digits2(buf, idx + 4)) : Integer.MIN_VALUE;
+    }
+
+    private static int readZone(final byte[] buf, final int idx, final int limit)
+    {
+        final char c = (char) buf[idx];
+        if (c == ZULU_UPPER || c == ZULU_LOWER)
+        {
+            return 0;
+        }
+        return (c == PLUS || c == MINUS) && limit - idx >= 6 && buf[idx + 3] == TIME_SEPARATOR ? offsetSeconds(c, AsciiDigits.digits2(buf, idx + 1), AsciiDigits.digits2(buf, idx + 4)) : Integer.MIN_VALUE;
+    }
+
+    /**
+     * Read <code>yyyy-MM-dd</code>, like {@link AsciiDigits#readDate(byte[], int)}
+     */
+    private static int readDate(final CharSequence text, final int index)
+    {
+        final int years = digits4(text, index);
+        final int months = digits2(text, index + 5);
+        final int days = digits2(text, index + 8);
+        if ((years | months | days) < 0 || text.charAt(index + 4) != DATE_SEPARATOR || text.charAt(index + 7) != DATE_SEPARATOR)
+        {
+            return -1;
+        }
+        return years * 10_000 + months * 100 + days;
+    }
+
+    private static int readDate(final char[] buf, final int index)
+    {
+        final int years = digits4(buf, index);
+        final int months = digits2(buf, index + 5);
+        final int days = digits2(buf, index + 8);
+        if ((years | months | days) < 0 || buf[index + 4] != DATE_SEPARATOR || buf[index + 7] != DATE_SEPARATOR)
+        {
+            return -1;
+        }
+        return years * 10_000 + months * 100 + days;
+    }
+
+    /**
+     * Read <code>HH:mm:ss</code>, like {@link AsciiDigits#readTime(byte[], int)}
+     */
+    private static int readTime(final CharSequence text, final int index)
+    {
+        final int hours = digits2(text, index);
+        final int minutes = digits2(text, index + 3);
+        final int seconds = digits2(text, index + 6);
+        if ((hours | minutes | seconds) < 0 || text.charAt(index + 2) != TIME_SEPARATOR || text.charAt(index + 5) != TIME_SEPARATOR)
+        {
+            return -1;
+        }
+        return hours * 10_000 + minutes * 100 + seconds;
+    }
+
+    private static int readTime(final char[] buf, final int index)
+    {
+        final int hours = digits2(buf, index);
+        final int minutes = digits2(buf, index + 3);
+        final int seconds = digits2(buf, index + 6);
+        if ((hours | minutes | seconds) < 0 || buf[index + 2] != TIME_SEPARATOR || buf[index + 5] != TIME_SEPARATOR)
+        {
+            return -1;
+        }
+        return hours * 10_000 + minutes * 100 + seconds;
+    }
+
+    static int digits2(final CharSequence text, final int index)
+    {
+        final int a = text.charAt(index) - '0';
+        final int b = text.charAt(index + 1) - '0';
+        if (a < 0 || a > 9 || b < 0 || b > 9)
+        {
+            return -1;
+        }
+        return a * 10 + b;
+    }
+
+    static int digits4(final CharSequence text, final int index)
+    {
+        final int high = digits2(text, index);
+        final int low = digits2(text, index + 2);
+        return (high | low) < 0 ? -1 : high * 100 + low;
+    }
+
+    private static int digits2(final char[] buf, final int index)
+    {
+        final int a = buf[index] - '0';
+        final int b = buf[index + 1] - '0';
+        if (a < 0 || a > 9 || b < 0 || b > 9)
+        {
+            return -1;
+        }
+        return a * 10 + b;
+    }
+
+    private static int digits4(final char[] buf, final int index)
+    {
+        final int high = digits2(buf, index);
+        final int low = digits2(buf, index + 2);
+        return (high | low) < 0 ? -1 : high * 100 + low;
+    }
+
+    static int checkBounds(final char[] buf, final int offset, final int length)
+    {
+        Objects.requireNonNull(buf, "buffer cannot be null");
+        if (offset < 0 || length < 0 || offset > buf.length - length)
+        {
+            throw new IndexOutOfBoundsException(String.format("Invalid offset %d and length %d for buffer of length %d", offset, length, buf.length));
+        }
+        return offset + length;
+    }
+
+    private static int checkBounds(final byte[] buf, final int offset, final int length)
+    {
+        Objects.requireNonNull(buf, "buffer cannot be null");
+        if (offset < 0 || length < 0 || offset > buf.length - length)
+        {
+            throw new IndexOutOfBoundsException(String.format("Invalid offset %d and length %d for buffer of length %d", offset, length, buf.length));
+        }
+        return offset + length;
+    }
+
+    /**
+     * Returns the parsed values as an {@link OffsetDateTime}
+     *
+     * @return The date-time
+     */
+    public OffsetDateTime toOffsetDateTime()
+    {
+        return OffsetDateTime.of(year, month, day, hour, minute, second, nano, ZoneOffset.ofTotalSeconds(offsetSeconds));
+    }
+
+    /**
+     * Returns the parsed values as a {@link DateTime}
+     *
+     * @param start The index the date-time was read from, used to calculate the parse length
+     * @return The date-time
+     */
+    public DateTime toDateTime(final int start)
+    {
+        // 'Z' is the only single character offset, and must map to the UTC instance like in the full parser
+        final int zoneLength = end - start - Field.SECOND.getRequiredLength() - (fractionDigits > 0 ? fractionDigits + 1 : 0);
+        final TimezoneOffset offset = zoneLength == 1 ? TimezoneOffset.UTC : TimezoneOffset.ofTotalSeconds(offsetSeconds);
+        return new DateTime(fractionDigits > 0 ? Field.NANO : Field.SECOND, year, month, day, hour, minute, second, nano, offset, fractionDigits, end - start);
+    }
+
+    /**
+     * Returns the number of seconds from the epoch of 1970-01-01T00:00:00Z
+     *
+     * @return The epoch seconds
+     */
+    public long getEpochSecond()
+    {
+        final long secsSinceMidnight = hour * 3600L + minute * 60L + second;
+        return DateTimeMath.daysFromCivil(year, month, day) * SECONDS_PER_DAY + secsSinceMidnight - offsetSeconds;
+    }
+
+    public int getYear()
+    {
+        return year;
+    }
+
+    public int getMonth()
+    {
+        return month;
+    }
+
+    public int getDayOfMonth()
+    {
+        return day;
+    }
+
+    public int getHour()
+    {
+        return hour;
+    }
+
+    public int getMinute()
+    {
+        return minute;
+    }
+
+    public int getSecond()
+    {
+        return second;
+    }
+
+    public int getNano()
+    {
+        return nano;
+    }
+
+    public int getFractionDigits()
+    {
+        return fractionDigits;
+    }
+
+    public int getOffsetSeconds()
+    {
+        return offsetSeconds;
+    }
+
+    /**
+     * Returns the index after the last character of the date-time read
+     *
+     * @return The end index
+     */
+    public int getEnd()
+    {
+        return end;
+    }
+}
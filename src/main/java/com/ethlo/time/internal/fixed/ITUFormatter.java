@@ -29,26 +29,139 @@ import static com.ethlo.time.internal.fixed.ITUParser.SEPARATOR_UPPER;
 import static com.ethlo.time.internal.fixed.ITUParser.TIME_SEPARATOR;
 import static com.ethlo.time.internal.fixed.ITUParser.ZULU_UPPER;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 
 import com.ethlo.time.Field;
 import com.ethlo.time.TimezoneOffset;
 import com.ethlo.time.internal.DateTimeFormatException;
+import com.ethlo.time.internal.events.TimeEvents;
+import com.ethlo.time.internal.util.DurationFormatter;
 import com.ethlo.time.internal.util.LimitedCharArrayIntegerUtil;
 
 public class ITUFormatter
 {
+    /**
+     * The maximum length of a formatted date-time, with nanoseconds and a timezone offset
+     */
+    public static final int MAX_LENGTH = 35;
+
+    private static final int SCRATCH_LENGTH = Math.max(MAX_LENGTH, DurationFormatter.MAX_LENGTH);
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
     private static final int[] widths = new int[]{100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1};
+    private static final byte QUOTE = '"';
+    private static final byte[] DIGIT_PAIRS = new byte[200];
+
+    static
+    {
+        for (int i = 0; i < 100; i++)
+        {
+            DIGIT_PAIRS[i * 2] = (byte) ('0' + i / 10);
+            DIGIT_PAIRS[i * 2 + 1] = (byte) ('0' + i % 10);
+        }
+    }
 
     public static String finish(final char[] buf, final int length, final TimezoneOffset tz)
+    {
+        return new String(buf, 0, finishLength(buf, length, tz));
+    }
+
+    /**
+     * Write the timezone offset, if any, after the date-time in the buffer
+     *
+     * @param buf    The buffer holding the date-time
+     * @param length The length of the date-time written so far
+     * @param tz     The timezone offset, or null
+     * @return The total length
+     */
+    public static int finishLength(final char[] buf, final int length, final TimezoneOffset tz)
     {
         int tzLen = 0;
         if (tz != null)
         {
             tzLen = writeTz(buf, length, tz);
         }
-        return new String(buf, 0, length + tzLen);
+        return length + tzLen;
+    }
+
+    /**
+     * Returns a buffer of at least {@link #MAX_LENGTH} and {@link DurationFormatter#MAX_LENGTH} characters to format to, kept per thread.
+     * <p>
+     * The buffer is only valid until the next call on the same thread. A new buffer is returned while the one of the thread is being passed to an
+     * {@link Appendable} by {@link #appendTo(Appendable, char[], int)}, as the target may format values itself.
+     *
+     * @return The buffer
+     */
+    public static char[] buffer()
+    {
+        final Scratch scratch = SCRATCH.get();
+        return scratch.appending ? new char[SCRATCH_LENGTH] : scratch.chars;
+    }
+
+    /**
+     * Append the characters to the target, using bulk writes where the type of the target allows it
+     *
+     * @param target The target to append to
+     * @param buf    The characters to append
+     * @param length The number of characters to append
+     * @throws IOException If the target fails
+     */
+    public static void appendTo(final Appendable target, final char[] buf, final int length) throws IOException
+    {
+        if (target instanceof StringBuilder)
+        {
+            ((StringBuilder) target).append(buf, 0, length);
+            return;
+        }
+
+        final Scratch scratch = SCRATCH.get();
+        final boolean owned = scratch.chars == buf && !scratch.appending;
+        if (owned)
+        {
+            scratch.appending = true;
+        }
+        try
+        {
+            if (target instanceof Writer)
+            {
+                ((Writer) target).write(buf, 0, length);
+            }
+            else
+            {
+                for (int i = 0; i < length; i++)
+                {
+                    target.append(buf[i]);
+                }
+            }
+        }
+        finally
+        {
+            if (owned)
+            {
+                scratch.appending = false;
+            }
+        }
+    }
+
+    private static int writeTz(final char[] buf, final int start, final ZoneOffset offset)
+    {
+        // Like writing TimezoneOffset.of(offset), without creating it
+        final int totalSeconds = offset.getTotalSeconds();
+        final int hours = Math.abs(totalSeconds / 3600);
+        final int minutes = Math.abs(totalSeconds % 3600 / 60);
+        if (hours == 0 && minutes == 0)
+        {
+            buf[start] = ZULU_UPPER;
+            return 1;
+        }
+
+        buf[start] = totalSeconds < 0 ? MINUS : PLUS;
+        LimitedCharArrayIntegerUtil.toString(hours, buf, start + 1, 2);
+        buf[start + 3] = TIME_SEPARATOR;
+        LimitedCharArrayIntegerUtil.toString(minutes, buf, start + 4, 2);
+        return 6;
     }
 
     private static int writeTz(final char[] buf, final int start, final TimezoneOffset tz)
@@ -83,37 +196,213 @@ public class ITUFormatter
         return doFormat(date, adjustTo, Field.NANO, fractionDigits);
     }
 
+    /**
+     * Format the date-time to the {@link #buffer()} of the thread, and append it to the target in one bulk copy where the target allows it
+     *
+     * @param date           The date-time to format
+     * @param adjustTo       The offset to format the date-time in
+     * @param lastIncluded   The last field to include
+     * @param fractionDigits The number of fraction digits in the second field
+     * @param target         The target to append to
+     */
+    public static void formatTo(OffsetDateTime date, ZoneOffset adjustTo, Field lastIncluded, int fractionDigits, StringBuilder target)
+    {
+        final char[] buffer = buffer();
+        target.append(buffer, 0, write(date, adjustTo, lastIncluded, fractionDigits, buffer));
+    }
+
+    /**
+     * Format the date-time to the {@link #buffer()} of the thread, and append it to the target in one bulk copy where the target allows it
+     *
+     * @param date           The date-time to format
+     * @param adjustTo       The offset to format the date-time in
+     * @param lastIncluded   The last field to include
+     * @param fractionDigits The number of fraction digits in the second field
+     * @param target         The target to append to
+     * @throws IOException If the target fails
+     */
+    public static void formatTo(OffsetDateTime date, ZoneOffset adjustTo, Field lastIncluded, int fractionDigits, Appendable target) throws IOException
+    {
+        final char[] buffer = buffer();
+        appendTo(target, buffer, write(date, adjustTo, lastIncluded, fractionDigits, buffer));
+    }
+
     private static String doFormat(OffsetDateTime date, ZoneOffset adjustTo, Field lastIncluded, int fractionDigits)
+    {
+        final char[] buffer = buffer();
+        return new String(buffer, 0, write(date, adjustTo, lastIncluded, fractionDigits, buffer));
+    }
+
+    /**
+     * Returns the number of bytes {@link #formatTo(OffsetDateTime, ZoneOffset, Field, int, byte[], int, boolean)} writes
+     *
+     * @param adjustTo       The offset to format the date-time in
+     * @param lastIncluded   The last field to include
+     * @param fractionDigits The number of fraction digits in the second field
+     * @param quoted         Whether the date-time is surrounded by double quotes
+     * @return The length in bytes
+     */
+    public static int length(ZoneOffset adjustTo, Field lastIncluded, int fractionDigits, boolean quoted)
+    {
+        final int quotes = quoted ? 2 : 0;
+        switch (lastIncluded)
+        {
+            case YEAR:
+            case MONTH:
+            case DAY:
+                return lastIncluded.getRequiredLength() + quotes;
+            default:
+                final int tzLength = TimezoneOffset.of(adjustTo).equals(TimezoneOffset.UTC) ? 1 : 6;
+                final int length = lastIncluded == Field.MINUTE ? Field.MINUTE.getRequiredLength() : Field.SECOND.getRequiredLength() + (fractionDigits > 0 ? fractionDigits + 1 : 0);
+                return length + tzLength + quotes;
+        }
+    }
+
+    /**
+     * Format the date-time as ASCII bytes, which are also valid UTF-8, directly to the target
+     *
+     * @param date           The date-time to format
+     * @param adjustTo       The offset to format the date-time in
+     * @param lastIncluded   The last field to include
+     * @param fractionDigits The number of fraction digits in the second field
+     * @param target         The buffer to write to
+     * @param offset         The position in the buffer to start writing
+     * @param quoted         Whether to surround the date-time with double quotes, like a JSON string
+     * @return The position after the last byte written
+     */
+    public static int formatTo(OffsetDateTime date, ZoneOffset adjustTo, Field lastIncluded, int fractionDigits, byte[] target, int offset, boolean quoted)
+    {
+        assertFractionDigits(date, fractionDigits);
+        final int length = length(adjustTo, lastIncluded, fractionDigits, quoted);
+        if (offset < 0 || offset > target.length - length)
+        {
+            throw new IndexOutOfBoundsException(String.format("Cannot write %d bytes at offset %d to buffer of length %d", length, offset, target.length));
+        }
+
+        final OffsetDateTime adjusted = date.getOffset().equals(adjustTo) ? date : date.atZoneSameInstant(adjustTo).toOffsetDateTime();
+        final int year = adjusted.getYear();
+        if (year < 0 || year > 9999)
+        {
+            throw new DateTimeFormatException("Year must be in the range 0 to 9999, got " + year);
+        }
+
+        int pos = offset;
+        if (quoted)
+        {
+            target[pos++] = QUOTE;
+        }
+
+        pos = writePair(target, writePair(target, pos, year / 100), year % 100);
+        if (lastIncluded != Field.YEAR)
+        {
+            target[pos++] = DATE_SEPARATOR;
+            pos = writePair(target, pos, adjusted.getMonthValue());
+        }
+        if (lastIncluded != Field.YEAR && lastIncluded != Field.MONTH)
+        {
+            target[pos++] = DATE_SEPARATOR;
+            pos = writePair(target, pos, adjusted.getDayOfMonth());
+        }
+        if (lastIncluded.ordinal() > Field.DAY.ordinal())
+        {
+            target[pos++] = SEPARATOR_UPPER;
+            pos = writePair(target, pos, adjusted.getHour());
+            target[pos++] = TIME_SEPARATOR;
+            pos = writePair(target, pos, adjusted.getMinute());
+            if (lastIncluded != Field.MINUTE)
+            {
+                target[pos++] = TIME_SEPARATOR;
+                pos = writePair(target, pos, adjusted.getSecond());
+                if (fractionDigits > 0)
+                {
+                    target[pos++] = FRACTION_SEPARATOR;
+                    pos = writeFractions(target, pos, fractionDigits, adjusted.getNano());
+                }
+            }
+            pos = writeTz(target, pos, TimezoneOffset.of(adjustTo));
+        }
+
+        if (quoted)
+        {
+            target[pos++] = QUOTE;
+        }
+        return pos;
+    }
+
+    private static int writePair(final byte[] target, final int pos, final int value)
+    {
+        target[pos] = DIGIT_PAIRS[value * 2];
+        target[pos + 1] = DIGIT_PAIRS[value * 2 + 1];
+        return pos + 2;
+    }
+
+    private static int writeFractions(final byte[] target, final int pos, final int fractionDigits, final int nano)
+    {
+        // Written from the last digit, two at a time
+        int value = nano / widths[fractionDigits - 1];
+        int idx = pos + fractionDigits;
+        while (idx - pos >= 2)
+        {
+            idx -= 2;
+            writePair(target, idx, value % 100);
+            value /= 100;
+        }
+        if (idx > pos)
+        {
+            target[pos] = (byte) ('0' + value);
+        }
+        return pos + fractionDigits;
+    }
+
+    private static int writeTz(final byte[] target, final int pos, final TimezoneOffset tz)
+    {
+        if (tz.equals(TimezoneOffset.UTC))
+        {
+            target[pos] = ZULU_UPPER;
+            return pos + 1;
+        }
+        target[pos] = (byte) (tz.getTotalSeconds() < 0 ? MINUS : PLUS);
+        writePair(target, pos + 1, Math.abs(tz.getHours()));
+        target[pos + 3] = TIME_SEPARATOR;
+        writePair(target, pos + 4, Math.abs(tz.getMinutes()));
+        return pos + 6;
+    }
+
+    private static void assertFractionDigits(OffsetDateTime date, int fractionDigits)
     {
         if (fractionDigits > MAX_FRACTION_DIGITS)
         {
-            throw new DateTimeFormatException("Maximum supported number of fraction digits in second is 9, got " + fractionDigits);
+            final DateTimeFormatException exc = new DateTimeFormatException("Maximum supported number of fraction digits in second is 9, got " + fractionDigits);
+            TimeEvents.failed(TimeEvents.FORMAT, date, exc);
+            throw exc;
         }
+    }
+
+    private static int write(OffsetDateTime date, ZoneOffset adjustTo, Field lastIncluded, int fractionDigits, char[] buffer)
+    {
+        assertFractionDigits(date, fractionDigits);
 
         OffsetDateTime adjusted = date;
         if (!date.getOffset().equals(adjustTo))
         {
             adjusted = date.atZoneSameInstant(adjustTo).toOffsetDateTime();
         }
-        final TimezoneOffset tz = TimezoneOffset.of(adjustTo);
-
-        final char[] buffer = new char[26 + fractionDigits];
 
         if (handleDatePart(lastIncluded, buffer, adjusted.getYear(), 0, 4, Field.YEAR))
         {
-            return finish(buffer, Field.YEAR.getRequiredLength(), null);
+            return finishLength(buffer, Field.YEAR.getRequiredLength(), null);
         }
 
         buffer[4] = DATE_SEPARATOR;
         if (handleDatePart(lastIncluded, buffer, adjusted.getMonthValue(), 5, 2, Field.MONTH))
         {
-            return finish(buffer, Field.MONTH.getRequiredLength(), null);
+            return finishLength(buffer, Field.MONTH.getRequiredLength(), null);
         }
 
         buffer[7] = DATE_SEPARATOR;
         if (handleDatePart(lastIncluded, buffer, adjusted.getDayOfMonth(), 8, 2, Field.DAY))
         {
-            return finish(buffer, Field.DAY.getRequiredLength(), null);
+            return finishLength(buffer, Field.DAY.getRequiredLength(), null);
         }
 
         // T separator
@@ -124,7 +413,7 @@ public class ITUFormatter
         buffer[13] = TIME_SEPARATOR;
         if (handleDatePart(lastIncluded, buffer, adjusted.getMinute(), 14, 2, Field.MINUTE))
         {
-            return finish(buffer, Field.MINUTE.getRequiredLength(), tz);
+            return Field.MINUTE.getRequiredLength() + writeTz(buffer, Field.MINUTE.getRequiredLength(), adjustTo);
         }
         buffer[16] = TIME_SEPARATOR;
         LimitedCharArrayIntegerUtil.toString(adjusted.getSecond(), buffer, 17, 2);
@@ -135,9 +424,9 @@ public class ITUFormatter
         {
             buffer[19] = FRACTION_SEPARATOR;
             addFractions(buffer, fractionDigits, adjusted.getNano());
-            return finish(buffer, 20 + fractionDigits, tz);
+            return 20 + fractionDigits + writeTz(buffer, 20 + fractionDigits, adjustTo);
         }
-        return finish(buffer, 19, tz);
+        return 19 + writeTz(buffer, 19, adjustTo);
     }
 
     private static boolean handleDatePart(final Field lastIncluded, final char[] buffer, final int value, final int offset, final int length, final Field field)
@@ -151,4 +440,10 @@ public class ITUFormatter
         final double d = widths[fractionDigits - 1];
         LimitedCharArrayIntegerUtil.toString((int) (nano / d), buf, 20, fractionDigits);
     }
+
+    private static final class Scratch
+    {
+        private final char[] chars = new char[SCRATCH_LENGTH];
+        private boolean appending;
+    }
 }
@@ -22,22 +22,27 @@ package com.ethlo.time.internal.fixed;
 
 import static com.ethlo.time.internal.util.ErrorUtil.assertFractionDigits;
 import static com.ethlo.time.internal.util.ErrorUtil.assertPositionContains;
+import static com.ethlo.time.internal.util.ErrorUtil.parseError;
 import static com.ethlo.time.internal.util.ErrorUtil.raiseUnexpectedCharacter;
 import static com.ethlo.time.internal.util.ErrorUtil.raiseUnexpectedEndOfText;
 import static com.ethlo.time.internal.util.LimitedCharArrayIntegerUtil.DIGIT_9;
 import static com.ethlo.time.internal.util.LimitedCharArrayIntegerUtil.ZERO;
 import static com.ethlo.time.internal.util.LimitedCharArrayIntegerUtil.parsePositiveInt;
 
+import java.nio.CharBuffer;
 import java.text.ParsePosition;
+import java.time.DateTimeException;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeParseException;
-import java.util.Arrays;
 
 import com.ethlo.time.DateTime;
 import com.ethlo.time.DateTimeParser;
+import com.ethlo.time.DateTimeVisitor;
 import com.ethlo.time.Field;
 import com.ethlo.time.ParseConfig;
 import com.ethlo.time.TimezoneOffset;
+import com.ethlo.time.internal.ParseMetricsCounters;
+import com.ethlo.time.internal.events.TimeEvents;
 import com.ethlo.time.internal.util.ArrayUtils;
 
 public class ITUParser implements DateTimeParser
@@ -71,6 +76,9 @@ public class ITUParser implements DateTimeParser
     public static final int RADIX = 10;
     public static final int DIGITS_IN_NANO = 9;
     private static final DateTimeParser instance = new ITUParser();
+    private static final ParseConfig DEFAULT_PREFIX = ParseConfig.DEFAULT.withFailOnTrailingJunk(false);
+    // The visitor is only passed primitive values, so each thread can keep reusing one field reader
+    private static final ThreadLocal<ITUFieldParser> VISITOR_FIELDS = ThreadLocal.withInitial(ITUFieldParser::new);
 
     private ITUParser()
     {
@@ -90,11 +98,15 @@ public class ITUParser implements DateTimeParser
             case MINUS:
             case ZULU_UPPER:
             case ZULU_LOWER:
-                final TimezoneOffset zoneOffset = parseTimezone(offset, parseConfig, chars, offset + 16);
+                final TimezoneOffset zoneOffset = parseTimezone(parseConfig, chars, offset + 16);
                 final int charLength = Field.MINUTE.getRequiredLength() + (zoneOffset != null ? zoneOffset.getRequiredLength() : 0);
                 return new DateTime(Field.MINUTE, year, month, day, hour, minute, 0, 0, zoneOffset, 0, charLength);
 
             default:
+                if (!parseConfig.isFailOnTrailingJunk())
+                {
+                    return new DateTime(Field.MINUTE, year, month, day, hour, minute, 0, 0, null, 0, 16);
+                }
                 throw raiseUnexpectedCharacter(chars, offset + 16, TIME_SEPARATOR, ZULU_UPPER, ZULU_LOWER, PLUS, MINUS);
         }
     }
@@ -105,12 +117,13 @@ public class ITUParser implements DateTimeParser
         final char needle = chars.charAt(index);
         if (!config.isDateTimeSeparator(needle))
         {
-            final String allowedCharStr = config.getDateTimeSeparators().length > 1 ? Arrays.toString(config.getDateTimeSeparators()) : Character.toString(config.getDateTimeSeparators()[0]);
-            throw new DateTimeParseException(String.format("Expected character %s at position %d, found %s: %s", allowedCharStr, index + 1, chars.charAt(index), chars), chars, index);
+            final char[] separators = config.getDateTimeSeparators();
+            final Object allowed = separators.length > 1 ? separators : separators[0];
+            throw parseError(chars, index, "Expected character %s at position %d, found %s: %s", allowed, index + 1, chars.charAt(index), chars);
         }
     }
 
-    private static TimezoneOffset parseTimezone(int offset, final ParseConfig parseConfig, final String chars, final int idx)
+    private static TimezoneOffset parseTimezone(final ParseConfig parseConfig, final String chars, final int idx)
     {
         if (idx >= chars.length())
         {
@@ -121,19 +134,23 @@ public class ITUParser implements DateTimeParser
         final char c = chars.charAt(idx);
         if (c == ZULU_UPPER || c == ZULU_LOWER)
         {
-            assertNoMoreChars(offset, parseConfig, chars, idx);
+            assertNoMoreChars(parseConfig, chars, idx);
             return TimezoneOffset.UTC;
         }
 
         final char sign = chars.charAt(idx);
         if (sign != PLUS && sign != MINUS)
         {
+            if (!parseConfig.isFailOnTrailingJunk())
+            {
+                return null;
+            }
             raiseUnexpectedCharacter(chars, idx, ZULU_UPPER, ZULU_LOWER, PLUS, MINUS);
         }
 
         if (left < 6)
         {
-            throw new DateTimeParseException(String.format("Invalid timezone offset: %s", chars), chars, idx);
+            throw parseError(chars, idx, "Invalid timezone offset: %s", chars);
         }
 
         int hours = parsePositiveInt(chars, idx + 1, idx + 3);
@@ -145,26 +162,122 @@ public class ITUParser implements DateTimeParser
 
             if (hours == 0 && minutes == 0)
             {
-                throw new DateTimeParseException("Unknown 'Local Offset Convention' date-time not allowed", chars, idx);
+                throw parseError(chars, idx, "Unknown 'Local Offset Convention' date-time not allowed");
             }
         }
 
-        assertNoMoreChars(offset, parseConfig, chars, idx + 5);
+        assertNoMoreChars(parseConfig, chars, idx + 5);
         return TimezoneOffset.ofHoursMinutes(hours, minutes);
     }
 
-    private static void assertNoMoreChars(final int offset, final ParseConfig parseConfig, final String chars, final int lastUsed)
+    private static void assertNoMoreChars(final ParseConfig parseConfig, final String chars, final int lastUsed)
+    {
+        if (parseConfig.isFailOnTrailingJunk() && chars.length() > lastUsed + 1)
+        {
+            throw parseError(chars, lastUsed + 1, "Trailing junk data after position %d: %s", lastUsed + 2, chars);
+        }
+    }
+
+    public static DateTime parseLenient(final CharSequence chars, final ParseConfig parseConfig, int offset)
+    {
+        final int availableLength = sanityCheckInputParams(chars, offset);
+        assertMaxLength(chars, offset, availableLength, parseConfig);
+        final ITUFieldParser fields = new ITUFieldParser();
+        if (fields.read(chars, offset, chars.length()) && (fields.getEnd() == chars.length() || !parseConfig.isFailOnTrailingJunk()) && isCovered(fields, chars.charAt(offset + 10), parseConfig))
+        {
+            return lenientResult(fields, offset);
+        }
+        // The input has passed the length check, and a prefix is never read beyond the maximum length, so only that part of what may be a large buffer is copied
+        final int end = parseConfig.isFailOnTrailingJunk() ? chars.length() : Math.min(chars.length(), offset + parseConfig.getMaxLength());
+        final String window = chars.subSequence(offset, end).toString();
+        try
+        {
+            return parseLenientFully(window, parseConfig, 0);
+        }
+        catch (DateTimeParseException exc)
+        {
+            throw atOffset(exc, window, offset);
+        }
+    }
+
+    private static DateTimeParseException atOffset(final DateTimeParseException exc, final String window, final int offset)
+    {
+        // Errors in a copied window are reported relative to the start of the original input
+        return offset == 0 ? exc : parseError(window, exc.getErrorIndex() + offset, "%s", exc.getMessage());
+    }
+
+    public static DateTime parseLenient(final char[] buf, final int offset, final int length, final ParseConfig parseConfig)
+    {
+        final int limit = ITUFieldParser.checkBounds(buf, offset, length);
+        assertMaxLength(buf, offset, length, parseConfig);
+        final ITUFieldParser fields = new ITUFieldParser();
+        if (fields.read(buf, offset, limit) && (fields.getEnd() == limit || !parseConfig.isFailOnTrailingJunk()) && isCovered(fields, buf[offset + 10], parseConfig))
+        {
+            return lenientResult(fields, offset);
+        }
+        return parseLenientFully(new String(buf, offset, parseConfig.isFailOnTrailingJunk() ? length : Math.min(length, parseConfig.getMaxLength())), parseConfig, 0);
+    }
+
+    private static void assertMaxLength(final CharSequence chars, final int offset, final int availableLength, final ParseConfig parseConfig)
+    {
+        // A prefix may be followed by any amount of data, so only input that must be read to the end is rejected up front. The fraction digits, the only field of variable length, are still not read beyond the limit.
+        final int maxLength = parseConfig.getMaxLength();
+        if (parseConfig.isFailOnTrailingJunk() && availableLength > maxLength)
+        {
+            throw tooLong(chars.subSequence(offset, offset + maxLength), offset + maxLength, maxLength);
+        }
+    }
+
+    private static void assertMaxLength(final char[] buf, final int offset, final int length, final ParseConfig parseConfig)
+    {
+        final int maxLength = parseConfig.getMaxLength();
+        if (parseConfig.isFailOnTrailingJunk() && length > maxLength)
+        {
+            throw tooLong(CharBuffer.wrap(buf, offset, maxLength), maxLength, maxLength);
+        }
+    }
+
+    private static DateTimeParseException tooLong(final CharSequence prefix, final int errorIndex, final int maxLength)
+    {
+        // Only the prefix that was looked at is kept, so the cost of the error does not grow with the input either
+        return parseError(prefix, errorIndex, "Input exceeds the maximum length of %d: %s...", maxLength, prefix);
+    }
+
+    private static boolean isCovered(final ITUFieldParser fields, final char dateTimeSeparator, final ParseConfig parseConfig)
+    {
+        // The fixed-layout reader accepts any of the default separators, so the configured ones must be checked
+        return parseConfig.isDateTimeSeparator(dateTimeSeparator) && (fields.getFractionDigits() == 0 || parseConfig.isFractionSeparator(FRACTION_SEPARATOR));
+    }
+
+    private static DateTime lenientResult(final ITUFieldParser fields, final int offset)
     {
-        if (parseConfig.isFailOnTrailingJunk() && offset == 0)
+        final DateTime result = fields.toDateTime(offset);
+        if (ParseMetricsCounters.isEnabled())
         {
-            if (chars.length() > lastUsed + 1)
+            ParseMetricsCounters.recordSuccess(result.getMostGranularField(), fields.getOffsetSeconds(), fields.getEnd() - offset);
+        }
+        return result;
+    }
+
+    private static DateTime parseLenientFully(final String chars, final ParseConfig parseConfig, int offset)
+    {
+        try
+        {
+            final DateTime result = parse(chars, parseConfig, offset);
+            if (ParseMetricsCounters.isEnabled())
             {
-                throw new DateTimeParseException(String.format("Trailing junk data after position %d: %s", lastUsed + 2, chars), chars, lastUsed + 1);
+                ParseMetricsCounters.recordSuccess(result, result.getParseLength());
             }
+            return result;
+        }
+        catch (DateTimeException exc)
+        {
+            failed(TimeEvents.PARSE_LENIENT, chars, offset, exc);
+            throw exc;
         }
     }
 
-    public static DateTime parseLenient(final String chars, final ParseConfig parseConfig, int offset)
+    static DateTime parse(final String chars, final ParseConfig parseConfig, int offset)
     {
         final int availableLength = sanityCheckInputParams(chars, offset);
 
@@ -210,7 +323,7 @@ public class ITUParser implements DateTimeParser
         return handleTime(offset, parseConfig, chars, years, month, days, hours, minutes);
     }
 
-    public static int sanityCheckInputParams(String chars, int offset)
+    public static int sanityCheckInputParams(CharSequence chars, int offset)
     {
         if (chars == null)
         {
@@ -271,15 +384,14 @@ public class ITUParser implements DateTimeParser
             {
                 return handleFractionalSeconds(offset, parseConfig, year, month, day, hour, minute, chars);
             }
-            else if (c == ZULU_UPPER || c == ZULU_LOWER)
+            else if (c == ZULU_UPPER || c == ZULU_LOWER || c == PLUS || c == MINUS)
             {
-                final TimezoneOffset timezoneOffset = TimezoneOffset.UTC;
+                final TimezoneOffset timezoneOffset = parseTimezone(parseConfig, chars, offset + 19);
                 return handleSecondResolution(offset, year, month, day, hour, minute, chars, timezoneOffset);
             }
-            else if (c == PLUS || c == MINUS)
+            else if (!parseConfig.isFailOnTrailingJunk())
             {
-                final TimezoneOffset timezoneOffset = parseTimezone(offset, parseConfig, chars, offset + 19);
-                return handleSecondResolution(offset, year, month, day, hour, minute, chars, timezoneOffset);
+                return handleSecondResolution(offset, year, month, day, hour, minute, chars, null);
             }
             else
             {
@@ -307,7 +419,8 @@ public class ITUParser implements DateTimeParser
         int idx = offset + 20;
         int fractionDigits = 0;
         int nanos = 0;
-        while (idx < chars.length())
+        final int end = Math.min(chars.length(), offset + parseConfig.getMaxLength());
+        while (idx < end)
         {
             final char c = chars.charAt(idx);
             if (c < ZERO || c > DIGIT_9)
@@ -332,30 +445,185 @@ public class ITUParser implements DateTimeParser
             pos++;
         }
 
-        final TimezoneOffset timezoneOffset = parseTimezone(offset, parseConfig, chars, idx);
+        final TimezoneOffset timezoneOffset = parseTimezone(parseConfig, chars, idx);
         final int charLength = (idx + (timezoneOffset != null ? timezoneOffset.getRequiredLength() : 0)) - offset;
         final int second = parseSeconds(offset, chars);
         return new DateTime(Field.NANO, year, month, day, hour, minute, second, nanos, timezoneOffset, fractionDigits, charLength);
     }
 
-    public static OffsetDateTime parseDateTime(final String chars, int offset)
+    public static OffsetDateTime parseDateTime(final CharSequence chars, int offset)
+    {
+        // Well-formed input is read with a single length check, anything else is left to the full parser for identical results and errors
+        final int availableLength = sanityCheckInputParams(chars, offset);
+        assertMaxLength(chars, offset, availableLength, ParseConfig.DEFAULT);
+        final ITUFieldParser fields = new ITUFieldParser();
+        if (fields.read(chars, offset, chars.length()) && fields.getEnd() == chars.length())
+        {
+            return dateTimeResult(fields, availableLength);
+        }
+
+        final String window = chars.subSequence(offset, chars.length()).toString();
+        try
+        {
+            return parseDateTimeFully(window, 0);
+        }
+        catch (DateTimeParseException exc)
+        {
+            throw atOffset(exc, window, offset);
+        }
+    }
+
+    public static OffsetDateTime parseDateTime(final char[] buf, final int offset, final int length)
+    {
+        final int limit = ITUFieldParser.checkBounds(buf, offset, length);
+        assertMaxLength(buf, offset, length, ParseConfig.DEFAULT);
+        final ITUFieldParser fields = new ITUFieldParser();
+        if (fields.read(buf, offset, limit) && fields.getEnd() == limit)
+        {
+            return dateTimeResult(fields, length);
+        }
+        return parseDateTimeFully(new String(buf, offset, length), 0);
+    }
+
+    private static OffsetDateTime dateTimeResult(final ITUFieldParser fields, final int length)
+    {
+        recordDateTime(fields, length);
+        return fields.toOffsetDateTime();
+    }
+
+    private static void recordDateTime(final ITUFieldParser fields, final int length)
+    {
+        if (ParseMetricsCounters.isEnabled())
+        {
+            ParseMetricsCounters.recordSuccess(fields.getFractionDigits() > 0 ? Field.NANO : Field.SECOND, fields.getOffsetSeconds(), length);
+        }
+    }
+
+    /**
+     * Validate the input like {@link #parseDateTime(CharSequence, int)}, without creating the result
+     *
+     * @param chars The date-time to validate
+     */
+    public static void validateDateTime(final CharSequence chars)
+    {
+        final int availableLength = sanityCheckInputParams(chars, 0);
+        assertMaxLength(chars, 0, availableLength, ParseConfig.DEFAULT);
+        final ITUFieldParser fields = new ITUFieldParser();
+        if (fields.read(chars, 0, availableLength) && fields.getEnd() == availableLength)
+        {
+            recordDateTime(fields, availableLength);
+            return;
+        }
+        parseDateTimeFully(chars.toString(), 0);
+    }
+
+    /**
+     * Parse the input like {@link #parseLenient(CharSequence, ParseConfig, int)} with the default config, and pass the fields to the visitor.
+     * The layouts covered by {@link ITUFieldParser#readLenient(CharSequence, int, int)} are read into a field reader kept per thread, without creating any objects.
+     *
+     * @param chars   The date/date-time to parse
+     * @param visitor The visitor of the fields
+     * @param <T>     The return type of the visitor
+     * @return The result of the visitor
+     */
+    public static <T> T parseLenient(final CharSequence chars, final DateTimeVisitor<T> visitor)
+    {
+        final int availableLength = sanityCheckInputParams(chars, 0);
+        assertMaxLength(chars, 0, availableLength, ParseConfig.DEFAULT);
+        final ITUFieldParser fields = VISITOR_FIELDS.get();
+        final Field granularity = fields.readLenient(chars, 0, availableLength);
+        if (granularity != null)
+        {
+            final int offsetSeconds = fields.getOffsetSeconds();
+            if (ParseMetricsCounters.isEnabled())
+            {
+                if (offsetSeconds == DateTimeVisitor.NO_OFFSET)
+                {
+                    ParseMetricsCounters.recordSuccess(granularity, availableLength);
+                }
+                else
+                {
+                    ParseMetricsCounters.recordSuccess(granularity, offsetSeconds, availableLength);
+                }
+            }
+            return visitor.visit(granularity, fields.getYear(), fields.getMonth(), fields.getDayOfMonth(), fields.getHour(), fields.getMinute(), fields.getSecond(), fields.getNano(), offsetSeconds);
+        }
+
+        final DateTime dateTime = parseLenientFully(chars.toString(), ParseConfig.DEFAULT, 0);
+        final TimezoneOffset offset = dateTime.getOffset().orElse(null);
+        assertConvertible(dateTime, offset);
+        return visitor.visit(dateTime.getMostGranularField(), dateTime.getYear(), dateTime.getMonth(), dateTime.getDayOfMonth(), dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond(), dateTime.getNano(), offset != null ? offset.getTotalSeconds() : DateTimeVisitor.NO_OFFSET);
+    }
+
+    private static void assertConvertible(final DateTime dateTime, final TimezoneOffset offset)
+    {
+        // Not all fields are range checked when a DateTime is created, so check them the same way as the conversion to java.time does
+        if (dateTime.includesGranularity(Field.MINUTE))
+        {
+            if (offset != null)
+            {
+                //noinspection ResultOfMethodCallIgnored
+                dateTime.toOffsetDatetime();
+            }
+            else
+            {
+                //noinspection ResultOfMethodCallIgnored
+                dateTime.toLocalDatetime();
+            }
+        }
+        else if (dateTime.includesGranularity(Field.MONTH))
+        {
+            //noinspection ResultOfMethodCallIgnored
+            dateTime.toYearMonth();
+        }
+    }
+
+    private static OffsetDateTime parseDateTimeFully(final String chars, int offset)
+    {
+        try
+        {
+            final DateTime dateTime = parse(chars, ParseConfig.DEFAULT, offset);
+            final OffsetDateTime result = toOffsetDateTime(dateTime, chars);
+            if (ParseMetricsCounters.isEnabled())
+            {
+                ParseMetricsCounters.recordSuccess(dateTime, chars.length() - offset);
+            }
+            return result;
+        }
+        catch (DateTimeException exc)
+        {
+            failed(TimeEvents.PARSE_DATE_TIME, chars, offset, exc);
+            throw exc;
+        }
+    }
+
+    private static void failed(final String operation, final String chars, final int offset, final DateTimeException exc)
+    {
+        if (ParseMetricsCounters.isEnabled())
+        {
+            ParseMetricsCounters.recordFailure(exc, chars.length() - offset);
+        }
+        TimeEvents.failed(operation, chars, exc);
+    }
+
+    public static OffsetDateTime toOffsetDateTime(final DateTime dateTime, final String chars)
     {
-        final DateTime dateTime = parseLenient(chars, ParseConfig.DEFAULT, offset);
         if (dateTime.includesGranularity(Field.SECOND))
         {
             return dateTime.toOffsetDatetime();
         }
         final Field field = dateTime.getMostGranularField();
         final Field nextGranularity = Field.values()[field.ordinal() + 1];
-        throw new DateTimeParseException(String.format("Unexpected end of input, missing field %s: %s", nextGranularity, chars), chars, field.getRequiredLength());
+        throw parseError(chars, field.getRequiredLength(), "Unexpected end of input, missing field %s: %s", nextGranularity, chars);
     }
 
-    public static DateTime parseLenient(String text, ParseConfig parseConfig, ParsePosition position)
+    public static DateTime parseLenient(CharSequence text, ParseConfig parseConfig, ParsePosition position)
     {
         try
         {
             int offset = position.getIndex();
-            final DateTime result = ITUParser.parseLenient(text, parseConfig, position.getIndex());
+            final ParseConfig prefixConfig = parseConfig == ParseConfig.DEFAULT ? DEFAULT_PREFIX : parseConfig.withFailOnTrailingJunk(false);
+            final DateTime result = ITUParser.parseLenient(text, prefixConfig, position.getIndex());
             position.setIndex(offset + result.getParseLength());
             return result;
         }
@@ -378,9 +646,21 @@ public class ITUParser implements DateTimeParser
         return parseLenient(text, ParseConfig.DEFAULT, parsePosition);
     }
 
+    @Override
+    public DateTime parse(final CharSequence text, final ParsePosition parsePosition)
+    {
+        return parseLenient(text, ParseConfig.DEFAULT, parsePosition);
+    }
+
     @Override
     public DateTime parse(final String text)
     {
         return parseLenient(text, ParseConfig.DEFAULT, 0);
     }
-}
\ No newline at end of file
+
+    @Override
+    public DateTime parse(final CharSequence text)
+    {
+        return parseLenient(text, ParseConfig.DEFAULT, 0);
+    }
+}
@@ -39,6 +39,12 @@ public class DigitsToken implements DateTimeToken
 
     @Override
     public int read(String text, ParsePosition parsePosition)
+    {
+        return read((CharSequence) text, parsePosition);
+    }
+
+    @Override
+    public int read(CharSequence text, ParsePosition parsePosition)
     {
         final int offset = parsePosition.getIndex();
         final int end = offset + length;
@@ -20,12 +20,14 @@ package com.ethlo.time.internal.token;
  * #L%
  */
 
+import static com.ethlo.time.internal.fixed.ITUParser.MAX_FRACTION_DIGITS;
 import static com.ethlo.time.internal.util.LimitedCharArrayIntegerUtil.DIGIT_9;
 import static com.ethlo.time.internal.util.LimitedCharArrayIntegerUtil.ZERO;
 
 import java.text.ParsePosition;
 
 import com.ethlo.time.Field;
+import com.ethlo.time.internal.util.ErrorUtil;
 import com.ethlo.time.token.DateTimeToken;
 
 public class FractionsToken implements DateTimeToken
@@ -33,10 +35,19 @@ public class FractionsToken implements DateTimeToken
     @Override
     public int read(final String text, final ParsePosition parsePosition)
     {
-        int idx = parsePosition.getIndex();
-        final int length = text.length();
+        return read((CharSequence) text, parsePosition);
+    }
+
+    @Override
+    public int read(final CharSequence text, final ParsePosition parsePosition)
+    {
+        final int start = parsePosition.getIndex();
+        int idx = start;
+
+        // Read at most one digit more than supported, to detect too many digits without reading an unbounded number of them
+        final int end = Math.min(text.length(), start + MAX_FRACTION_DIGITS + 1);
         int value = 0;
-        while (idx < length)
+        while (idx < end)
         {
             final char c = text.charAt(idx);
             if (c < ZERO || c > DIGIT_9)
@@ -49,6 +60,10 @@ public class FractionsToken implements DateTimeToken
                 idx++;
             }
         }
+        if (idx - start > MAX_FRACTION_DIGITS)
+        {
+            throw ErrorUtil.parseError(text, idx - 1, "Maximum supported number of fraction digits in second is 9: %s", text);
+        }
         parsePosition.setIndex(idx);
         return value;
     }
@@ -36,6 +36,12 @@ public class SeparatorToken implements DateTimeToken
 
     @Override
     public int read(final String text, final ParsePosition parsePosition)
+    {
+        return read((CharSequence) text, parsePosition);
+    }
+
+    @Override
+    public int read(final CharSequence text, final ParsePosition parsePosition)
     {
         final int index = parsePosition.getIndex();
         if (text.length() > index && text.charAt(index) == separator)
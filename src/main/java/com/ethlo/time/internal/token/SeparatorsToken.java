@@ -21,7 +21,6 @@ package com.ethlo.time.internal.token;
  */
 
 import java.text.ParsePosition;
-import java.time.format.DateTimeParseException;
 import java.util.Arrays;
 
 import com.ethlo.time.internal.util.ErrorUtil;
@@ -38,6 +37,12 @@ public class SeparatorsToken implements DateTimeToken
 
     @Override
     public int read(final String text, final ParsePosition parsePosition)
+    {
+        return read((CharSequence) text, parsePosition);
+    }
+
+    @Override
+    public int read(final CharSequence text, final ParsePosition parsePosition)
     {
         final int index = parsePosition.getIndex();
         if (text.length() <= index)
@@ -54,7 +59,7 @@ public class SeparatorsToken implements DateTimeToken
                 return 1;
             }
         }
-        throw new DateTimeParseException(String.format("Expected character %s at position %d, found %s: %s", Arrays.toString(separators), index + 1, text.charAt(index), text), text, index);
+        throw ErrorUtil.parseError(text, index, "Expected character %s at position %d, found %s: %s", separators, index + 1, text.charAt(index), text);
     }
 
     @Override
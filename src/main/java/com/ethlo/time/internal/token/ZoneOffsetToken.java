@@ -24,11 +24,11 @@ import static com.ethlo.time.internal.fixed.ITUParser.MINUS;
 import static com.ethlo.time.internal.fixed.ITUParser.PLUS;
 import static com.ethlo.time.internal.fixed.ITUParser.ZULU_LOWER;
 import static com.ethlo.time.internal.fixed.ITUParser.ZULU_UPPER;
+import static com.ethlo.time.internal.util.ErrorUtil.parseError;
 import static com.ethlo.time.internal.util.ErrorUtil.raiseUnexpectedCharacter;
 import static com.ethlo.time.internal.util.LimitedCharArrayIntegerUtil.parsePositiveInt;
 
 import java.text.ParsePosition;
-import java.time.format.DateTimeParseException;
 
 import com.ethlo.time.Field;
 import com.ethlo.time.token.DateTimeToken;
@@ -37,6 +37,12 @@ public class ZoneOffsetToken implements DateTimeToken
 {
     @Override
     public int read(final String text, final ParsePosition parsePosition)
+    {
+        return read((CharSequence) text, parsePosition);
+    }
+
+    @Override
+    public int read(final CharSequence text, final ParsePosition parsePosition)
     {
         final int idx = parsePosition.getIndex();
         final int len = text.length();
@@ -62,7 +68,7 @@ public class ZoneOffsetToken implements DateTimeToken
 
         if (left < 6)
         {
-            throw new DateTimeParseException(String.format("Invalid timezone offset: %s", text), text, idx);
+            throw parseError(text, idx, "Invalid timezone offset: %s", text);
         }
 
         int hours = parsePositiveInt(text, idx + 1, idx + 3);
@@ -74,7 +80,7 @@ public class ZoneOffsetToken implements DateTimeToken
 
             if (hours == 0 && minutes == 0)
             {
-                throw new DateTimeParseException("Unknown 'Local Offset Convention' date-time not allowed", text, idx);
+                throw parseError(text, idx, "Unknown 'Local Offset Convention' date-time not allowed");
             }
         }
 
@@ -0,0 +1,96 @@
+package com.ethlo.time.internal.util;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Reads the fixed-width date and time parts of an RFC-3339 date-time from ASCII bytes.
+ * <p>
+ * This is the Java 8 version, reading one byte at a time. The Java 17+ version in <code>META-INF/versions/17</code> reads and validates each part with a single 64-bit load.
+ */
+public final class AsciiDigits
+{
+    private AsciiDigits()
+    {
+    }
+
+    /**
+     * Read <code>yyyy-MM-dd</code>. The caller must ensure that 10 bytes are available.
+     *
+     * @param buf    The buffer to read from
+     * @param offset The index of the first byte
+     * @return <code>year * 10000 + month * 100 + day</code>, or -1 if the bytes do not have the expected layout
+     */
+    public static int readDate(final byte[] buf, final int offset)
+    {
+        final int years = digits4(buf, offset);
+        final int months = digits2(buf, offset + 5);
+        final int days = digits2(buf, offset + 8);
+        if ((years | months | days) < 0 || buf[offset + 4] != '-' || buf[offset + 7] != '-')
+        {
+            return -1;
+        }
+        return years * 10_000 + months * 100 + days;
+    }
+
+    /**
+     * Read <code>HH:mm:ss</code>. The caller must ensure that 8 bytes are available.
+     *
+     * @param buf    The buffer to read from
+     * @param offset The index of the first byte
+     * @return <code>hour * 10000 + minute * 100 + second</code>, or -1 if the bytes do not have the expected layout
+     */
+    public static int readTime(final byte[] buf, final int offset)
+    {
+        final int hours = digits2(buf, offset);
+        final int minutes = digits2(buf, offset + 3);
+        final int seconds = digits2(buf, offset + 6);
+        if ((hours | minutes | seconds) < 0 || buf[offset + 2] != ':' || buf[offset + 5] != ':')
+        {
+            return -1;
+        }
+        return hours * 10_000 + minutes * 100 + seconds;
+    }
+
+    /**
+     * Read two digits
+     *
+     * @param buf   The buffer to read from
+     * @param index The index of the first digit
+     * @return The value, or -1 if not two digits
+     */
+    public static int digits2(final byte[] buf, final int index)
+    {
+        final int a = buf[index] - '0';
+        final int b = buf[index + 1] - '0';
+        if (a < 0 || a > 9 || b < 0 || b > 9)
+        {
+            return -1;
+        }
+        return a * 10 + b;
+    }
+
+    private static int digits4(final byte[] buf, final int index)
+    {
+        final int high = digits2(buf, index);
+        final int low = digits2(buf, index + 2);
+        return (high | low) < 0 ? -1 : high * 100 + low;
+    }
+}
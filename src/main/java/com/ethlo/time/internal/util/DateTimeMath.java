@@ -44,4 +44,119 @@ public class DateTimeMath
         final long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;         // [0, 146096]
         return era * 146097 + doe - 719468;
     }
+
+    /**
+     * Returns the civil date of the number of days since 1970-01-01, packed into a long. Use {@link #packedYear(long)}, {@link #packedMonth(long)} and
+     * {@link #packedDay(long)} to read the fields.
+     *
+     * @param z The number of days since 1970-01-01
+     * @return The packed date
+     */
+    public static long civilFromDays(long z)
+    {
+        z += 719468;
+        final long era = (z >= 0 ? z : z - 146096) / 146097;
+        final long doe = z - era * 146097;                                  // [0, 146096]
+        final long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;  // [0, 399]
+        final long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);           // [0, 365]
+        final long mp = (5 * doy + 2) / 153;                                // [0, 11]
+        final long d = doy - (153 * mp + 2) / 5 + 1;                        // [1, 31]
+        final long m = mp < 10 ? mp + 3 : mp - 9;                           // [1, 12]
+        final long y = yoe + era * 400 + (m <= 2 ? 1 : 0);
+        return (y << 9) | (m << 5) | d;
+    }
+
+    public static long packedYear(final long packed)
+    {
+        return packed >> 9;
+    }
+
+    public static int packedMonth(final long packed)
+    {
+        return (int) ((packed >> 5) & 0xF);
+    }
+
+    public static int packedDay(final long packed)
+    {
+        return (int) (packed & 0x1F);
+    }
+
+    /**
+     * Returns the ISO day of week of the number of days since 1970-01-01, from 1 (Monday) to 7 (Sunday)
+     *
+     * @param epochDay The number of days since 1970-01-01
+     * @return The day of week
+     */
+    public static int dayOfWeek(final long epochDay)
+    {
+        // 1970-01-01 was a Thursday
+        return (int) Math.floorMod(epochDay + 3, 7L) + 1;
+    }
+
+    public static int dayOfYear(final int year, final int month, final int day)
+    {
+        return (int) (daysFromCivil(year, month, day) - daysFromCivil(year, 1, 1)) + 1;
+    }
+
+    /**
+     * Returns the number of weeks, 52 or 53, in the ISO week-based year
+     *
+     * @param year The week-based year
+     * @return The number of weeks
+     */
+    public static int weeksInWeekBasedYear(final int year)
+    {
+        final int firstDayOfWeek = dayOfWeek(daysFromCivil(year, 1, 1));
+        return firstDayOfWeek == 4 || (firstDayOfWeek == 3 && isLeapYear(year)) ? 53 : 52;
+    }
+
+    /**
+     * Returns the ISO week of the week-based year, where week 1 is the week containing the first Thursday of the year
+     *
+     * @param year      The year
+     * @param dayOfYear The day of year
+     * @param dayOfWeek The ISO day of week
+     * @return The week of the week-based year, from 1 to 53
+     */
+    public static int weekOfWeekBasedYear(final int year, final int dayOfYear, final int dayOfWeek)
+    {
+        final int week = (dayOfYear - dayOfWeek + 10) / 7;
+        if (week < 1)
+        {
+            return weeksInWeekBasedYear(year - 1);
+        }
+        return week > weeksInWeekBasedYear(year) ? 1 : week;
+    }
+
+    /**
+     * Returns the ISO week-based year, which differs from the year for some days around the start and end of the year
+     *
+     * @param year      The year
+     * @param dayOfYear The day of year
+     * @param dayOfWeek The ISO day of week
+     * @return The week-based year
+     */
+    public static int weekBasedYear(final int year, final int dayOfYear, final int dayOfWeek)
+    {
+        final int week = (dayOfYear - dayOfWeek + 10) / 7;
+        if (week < 1)
+        {
+            return year - 1;
+        }
+        return week > weeksInWeekBasedYear(year) ? year + 1 : year;
+    }
+
+    public static boolean isLeapYear(final int year)
+    {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    public static int lengthOfMonth(final int year, final int month)
+    {
+        if (month == 2)
+        {
+            return isLeapYear(year) ? 29 : 28;
+        }
+        return 30 + ((month + (month >> 3)) & 1);
+    }
 }
@@ -27,29 +27,77 @@ import java.io.InputStreamReader;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
-import java.util.SortedSet;
-import java.util.TreeSet;
 
+import com.ethlo.time.LeapSecondHandler;
+
+/**
+ * Leap second table held as a bitset indexed by the number of months since January 1972.
+ * <p>
+ * The default instance uses the table compiled in from <code>leap_second_dates.csv</code>, so no resources are read at runtime.
+ */
 public class DefaultLeapSecondHandler implements LeapSecondHandler
 {
     public static final String LEAP_SECOND_PATH_CSV = "leap_second_dates.csv";
-    private final SortedSet<YearMonth> leapSecondMonths;
+    private static final int FIRST_YEAR = 1972;
+    private static final int MONTHS_PER_YEAR = 12;
+
+    private final long[] leapSecondMonths;
+    private final int lastLeapKnownIndex;
     private final YearMonth lastLeapKnown;
 
     public DefaultLeapSecondHandler()
     {
-        leapSecondMonths = new TreeSet<>();
+        this(fromTable(LeapSecondTable.MONTHS));
+    }
+
+    public DefaultLeapSecondHandler(final Collection<YearMonth> months)
+    {
+        if (months.isEmpty())
+        {
+            throw new IllegalArgumentException("At least one leap second month is required");
+        }
+
+        YearMonth last = null;
+        for (YearMonth month : months)
+        {
+            if (month.getYear() < FIRST_YEAR)
+            {
+                throw new IllegalArgumentException("Leap seconds before " + FIRST_YEAR + " are not supported: " + month);
+            }
+            last = last == null || month.isAfter(last) ? month : last;
+        }
 
-        try (final InputStream in = DefaultLeapSecondHandler.class.getClassLoader().getResourceAsStream(LEAP_SECOND_PATH_CSV);
-             final BufferedReader reader = new BufferedReader(new InputStreamReader(Objects.requireNonNull(in, LEAP_SECOND_PATH_CSV + " was not found on the classpath"), StandardCharsets.UTF_8)))
+        lastLeapKnown = last;
+        lastLeapKnownIndex = index(last.getYear(), last.getMonthValue());
+        leapSecondMonths = new long[(lastLeapKnownIndex >> 6) + 1];
+        for (YearMonth month : months)
+        {
+            final int index = index(month.getYear(), month.getMonthValue());
+            leapSecondMonths[index >> 6] |= 1L << index;
+        }
+    }
+
+    /**
+     * Read the months ending with a leap second from a CSV file with one <code>yyyy-MM</code> value per line
+     *
+     * @param in The stream to read from
+     * @return The months
+     */
+    public static List<YearMonth> readCsv(InputStream in)
+    {
+        final List<YearMonth> months = new ArrayList<>();
+        try (final BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)))
         {
             String line;
             while ((line = reader.readLine()) != null)
             {
                 if (!line.isEmpty())
                 {
-                    leapSecondMonths.add(YearMonth.parse(line));
+                    months.add(YearMonth.parse(line));
                 }
             }
         }
@@ -57,14 +105,46 @@ public class DefaultLeapSecondHandler implements LeapSecondHandler
         {
             throw new UncheckedIOException(e);
         }
+        return months;
+    }
+
+    /**
+     * Read the months ending with a leap second from <code>leap_second_dates.csv</code> on the classpath
+     *
+     * @return The months
+     */
+    public static List<YearMonth> readDefaultCsv()
+    {
+        final InputStream in = DefaultLeapSecondHandler.class.getClassLoader().getResourceAsStream(LEAP_SECOND_PATH_CSV);
+        return readCsv(Objects.requireNonNull(in, LEAP_SECOND_PATH_CSV + " was not found on the classpath"));
+    }
+
+    private static List<YearMonth> fromTable(final int[] table)
+    {
+        final List<YearMonth> months = new ArrayList<>(table.length);
+        for (int value : table)
+        {
+            months.add(YearMonth.of(value / 100, value % 100));
+        }
+        return months;
+    }
 
-        lastLeapKnown = leapSecondMonths.last();
+    private static int index(final int year, final int month)
+    {
+        return (year - FIRST_YEAR) * MONTHS_PER_YEAR + month - 1;
     }
 
     @Override
     public boolean isValidLeapSecondDate(YearMonth needle)
     {
-        return leapSecondMonths.contains(needle);
+        return isValidLeapSecondDate(needle.getYear(), needle.getMonthValue());
+    }
+
+    @Override
+    public boolean isValidLeapSecondDate(final int year, final int month)
+    {
+        final int index = index(year, month);
+        return index >= 0 && index <= lastLeapKnownIndex && (leapSecondMonths[index >> 6] & (1L << index)) != 0;
     }
 
     @Override
@@ -72,4 +152,10 @@ public class DefaultLeapSecondHandler implements LeapSecondHandler
     {
         return lastLeapKnown;
     }
+
+    @Override
+    public boolean isAfterLastKnownLeapSecond(final int year, final int month)
+    {
+        return index(year, month) > lastLeapKnownIndex;
+    }
 }
@@ -23,6 +23,7 @@ package com.ethlo.time.internal.util;
 import static com.ethlo.time.internal.ItuDurationParser.NANOS_IN_SECOND;
 
 import com.ethlo.time.Duration;
+import com.ethlo.time.internal.fixed.ITUFormatter;
 
 public class DurationFormatter
 {
@@ -31,33 +32,61 @@ public class DurationFormatter
     private static final long SECONDS_IN_DAY = 86400;
     private static final long SECONDS_IN_WEEK = 604800;
 
+    /**
+     * The maximum number of characters written by {@link #normalizeDuration(Duration, char[])}
+     */
+    public static final int MAX_LENGTH = 48;
+
     public static String normalizeDuration(Duration duration)
+    {
+        final char[] buf = ITUFormatter.buffer();
+        return new String(buf, 0, normalizeDuration(duration, buf));
+    }
+
+    public static void normalizeDuration(Duration duration, StringBuilder s)
+    {
+        final char[] buf = ITUFormatter.buffer();
+        s.append(buf, 0, normalizeDuration(duration, buf));
+    }
+
+    /**
+     * Writes the normalized duration to the start of the buffer
+     *
+     * @param duration The duration to write
+     * @param buf      The buffer to write to, at least {@link #MAX_LENGTH} long
+     * @return The number of characters written
+     */
+    public static int normalizeDuration(Duration duration, char[] buf)
     {
         long seconds = duration.getSeconds();
         int nanos = duration.getNanos();
+        int pos = 0;
 
         if (seconds == 0 && nanos == 0)
         {
-            return "PT0S";
+            buf[pos++] = 'P';
+            buf[pos++] = 'T';
+            buf[pos++] = '0';
+            buf[pos++] = 'S';
+            return pos;
         }
 
-        final StringBuilder s = new StringBuilder();
-
         final boolean negative = seconds < 0;
 
         if (negative)
         {
-            s.append('-');
+            buf[pos++] = '-';
             seconds = nanos > 0 ? (seconds * -1) - 1 : seconds * -1;
         }
 
-        s.append('P');
+        buf[pos++] = 'P';
 
         // Weeks calculation
         long weeks = seconds / SECONDS_IN_WEEK;
         if (weeks > 0)
         {
-            s.append(weeks).append("W");
+            pos = writeNumber(weeks, buf, pos);
+            buf[pos++] = 'W';
             seconds %= SECONDS_IN_WEEK;
         }
 
@@ -65,20 +94,22 @@ public class DurationFormatter
         long days = seconds / SECONDS_IN_DAY;
         if (days > 0)
         {
-            s.append(days).append("D");
+            pos = writeNumber(days, buf, pos);
+            buf[pos++] = 'D';
             seconds %= SECONDS_IN_DAY;
         }
 
         // Time section starts after 'T'
         if (seconds > 0 || nanos > 0)
         {
-            s.append("T");
+            buf[pos++] = 'T';
         }
 
         long hours = seconds / SECONDS_IN_HOUR;
         if (hours > 0)
         {
-            s.append(hours).append("H");
+            pos = writeNumber(hours, buf, pos);
+            buf[pos++] = 'H';
             seconds %= SECONDS_IN_HOUR;
         }
 
@@ -86,34 +117,50 @@ public class DurationFormatter
         long minutes = seconds / SECONDS_IN_MINUTE;
         if (minutes > 0)
         {
-            s.append(minutes).append("M");
+            pos = writeNumber(minutes, buf, pos);
+            buf[pos++] = 'M';
             seconds %= SECONDS_IN_MINUTE;
         }
 
         // Seconds and fractional seconds
         if (seconds > 0 || nanos > 0)
         {
-            s.append(seconds);
+            pos = writeNumber(seconds, buf, pos);
 
             if (nanos > 0)
             {
-                // Efficiently append fractional part without trailing zeros
-                String fractionalPart = String.format("%09d", negative ? NANOS_IN_SECOND - nanos : nanos);
-                int endIndex = fractionalPart.length();
-                while (endIndex > 0 && fractionalPart.charAt(endIndex - 1) == '0')
-                {
-                    endIndex--;
-                }
-
-                if (endIndex > 0)
+                // Append the fractional part digit by digit, stopping before any trailing zeros
+                int remainder = negative ? NANOS_IN_SECOND - nanos : nanos;
+                int divisor = NANOS_IN_SECOND / 10;
+                buf[pos++] = '.';
+                do
                 {
-                    s.append(".").append(fractionalPart, 0, endIndex);
+                    buf[pos++] = (char) ('0' + remainder / divisor);
+                    remainder %= divisor;
+                    divisor /= 10;
                 }
+                while (remainder > 0);
             }
 
-            s.append("S");
+            buf[pos++] = 'S';
         }
+        return pos;
+    }
 
-        return s.toString();
+    private static int writeNumber(final long value, final char[] buf, final int pos)
+    {
+        int digits = 1;
+        for (long remaining = value / 10; remaining > 0; remaining /= 10)
+        {
+            digits++;
+        }
+
+        long remaining = value;
+        for (int i = pos + digits - 1; i >= pos; i--)
+        {
+            buf[i] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        return pos + digits;
     }
 }
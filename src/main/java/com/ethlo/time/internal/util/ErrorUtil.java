@@ -26,6 +26,7 @@ import java.time.format.DateTimeParseException;
 import java.util.Arrays;
 
 import com.ethlo.time.Field;
+import com.ethlo.time.ParseExceptions;
 
 public class ErrorUtil
 {
@@ -33,22 +34,59 @@ public class ErrorUtil
     {
     }
 
-    public static DateTimeParseException raiseUnexpectedCharacter(String chars, int index, char... expected)
+    /**
+     * Create a parse exception with the message <code>String.format(pattern, args)</code>, where any <code>char[]</code> argument is formatted like {@link Arrays#toString(char[])}.
+     * <p>
+     * If {@link ParseExceptions#isLightweight()}, the exception has no stack trace and the message is only rendered when requested.
+     *
+     * @param input   The input that failed to parse
+     * @param index   The position of the error in the input
+     * @param pattern The message pattern
+     * @param args    The message arguments
+     * @return The exception, for the caller to throw
+     */
+    public static DateTimeParseException parseError(final CharSequence input, final int index, final String pattern, final Object... args)
     {
-        throw new DateTimeParseException(String.format("Expected character %s at position %d, found %s: %s", Arrays.toString(expected), index + 1, chars.charAt(index), chars), chars, index);
+        if (ParseExceptions.isLightweight())
+        {
+            return new LightweightDateTimeParseException(input, index, pattern, args);
+        }
+        return new DateTimeParseException(format(pattern, args), input, index);
+    }
+
+    static String format(final String pattern, final Object[] args)
+    {
+        if (args.length == 0)
+        {
+            return pattern;
+        }
+
+        for (int i = 0; i < args.length; i++)
+        {
+            if (args[i] instanceof char[])
+            {
+                args[i] = Arrays.toString((char[]) args[i]);
+            }
+        }
+        return String.format(pattern, args);
+    }
+
+    public static DateTimeParseException raiseUnexpectedCharacter(CharSequence chars, int index, char... expected)
+    {
+        throw parseError(chars, index, "Expected character %s at position %d, found %s: %s", expected, index + 1, chars.charAt(index), chars);
     }
 
-    public static DateTimeParseException raiseUnexpectedEndOfText(final String chars, final int offset)
+    public static DateTimeParseException raiseUnexpectedEndOfText(final CharSequence chars, final int offset)
     {
-        throw new DateTimeParseException(String.format("Unexpected end of input: %s", chars), chars, offset);
+        throw parseError(chars, offset, "Unexpected end of input: %s", chars);
     }
 
-    public static DateTimeParseException raiseMissingGranularity(Field field, final String chars, final int offset)
+    public static DateTimeParseException raiseMissingGranularity(Field field, final CharSequence chars, final int offset)
     {
-        throw new DateTimeParseException(String.format("Unexpected end of input, missing field %s: %s", field.name(), chars), chars, offset);
+        throw parseError(chars, offset, "Unexpected end of input, missing field %s: %s", field.name(), chars);
     }
 
-    public static void assertPositionContains(Field field, String chars, int index, char expected)
+    public static void assertPositionContains(Field field, CharSequence chars, int index, char expected)
     {
         if (index >= chars.length())
         {
@@ -57,20 +95,20 @@ public class ErrorUtil
 
         if (chars.charAt(index) != expected)
         {
-            throw new DateTimeParseException(String.format("Expected character %s at position %d, found %s: %s", expected, index + 1, chars.charAt(index), chars), chars, index);
+            throw parseError(chars, index, "Expected character %s at position %d, found %s: %s", expected, index + 1, chars.charAt(index), chars);
         }
     }
 
-    public static void assertFractionDigits(String chars, int fractionDigits, int idx)
+    public static void assertFractionDigits(CharSequence chars, int fractionDigits, int idx)
     {
         if (fractionDigits == 0)
         {
-            throw new DateTimeParseException(String.format("Must have at least 1 fraction digit: %s", chars), chars, idx);
+            throw parseError(chars, idx, "Must have at least 1 fraction digit: %s", chars);
         }
 
         if (fractionDigits > MAX_FRACTION_DIGITS)
         {
-            throw new DateTimeParseException(String.format("Maximum supported number of fraction digits in second is 9, got %d: %s", fractionDigits, chars), chars, idx);
+            throw parseError(chars, idx, "Maximum supported number of fraction digits in second is 9, got %d: %s", fractionDigits, chars);
         }
     }
 }
@@ -0,0 +1,41 @@
+package com.ethlo.time.internal.util;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * The months ending with a leap second, as <code>year * 100 + month</code>, compiled in to avoid reading <code>leap_second_dates.csv</code> at runtime.
+ * <p>
+ * Maintained by hand: when a new leap second is announced, add it here and to <code>leap_second_dates.csv</code>.
+ * <code>DefaultLeapSecondHandlerTest</code> checks that the two stay in sync.
+ */
+final class LeapSecondTable
+{
+    static final int[] MONTHS = {
+            197206, 197212, 197312, 197412, 197512, 197612, 197712,
+            197812, 197912, 198106, 198206, 198306, 198506, 198712,
+            198912, 199012, 199206, 199306, 199406, 199512, 199706,
+            199812, 200512, 200812, 201206, 201506, 201612
+    };
+
+    private LeapSecondTable()
+    {
+    }
+}
@@ -0,0 +1,68 @@
+package com.ethlo.time.internal.util;
+
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.format.DateTimeParseException;
+
+/**
+ * A parse exception without a stack trace, that renders its message on first request. Used when {@link com.ethlo.time.ParseExceptions#isLightweight()}.
+ */
+class LightweightDateTimeParseException extends DateTimeParseException
+{
+    private static final long serialVersionUID = 1L;
+
+    private final String pattern;
+    private final Object[] args;
+    private String message;
+
+    LightweightDateTimeParseException(final CharSequence input, final int index, final String pattern, final Object[] args)
+    {
+        super(null, input, index);
+        this.pattern = pattern;
+        this.args = args;
+
+        // The input may be a mutable sequence, so refer to the copy kept by the exception
+        for (int i = 0; i < args.length; i++)
+        {
+            if (args[i] == input)
+            {
+                args[i] = getParsedString();
+            }
+        }
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace()
+    {
+        return this;
+    }
+
+    @Override
+    public String getMessage()
+    {
+        if (message == null)
+        {
+            message = ErrorUtil.format(pattern, args);
+        }
+        return message;
+    }
+}
@@ -47,26 +47,25 @@ public final class LimitedCharArrayIntegerUtil
     {
     }
 
-    public static int parsePositiveInt(final String strNum, int startInclusive, int endExclusive)
+    public static int parsePositiveInt(final CharSequence strNum, int startInclusive, int endExclusive)
     {
+        // Validate the length once, and only report the end of text after any invalid character before it
+        final int end = Math.min(endExclusive, strNum.length());
         int result = 0;
-        try
+        for (int i = startInclusive; i < end; i++)
         {
-            for (int i = startInclusive; i < endExclusive; i++)
+            final char c = strNum.charAt(i);
+            if (c < ZERO || c > DIGIT_9)
             {
-                final char c = strNum.charAt(i);
-                if (c < ZERO || c > DIGIT_9)
-                {
-                    ErrorUtil.raiseUnexpectedCharacter(strNum, i, '0', '1', '2', '3', '4', '5', '6', '7', '8', '9');
-                }
-                result = (result * 10) + (c - ZERO);
+                ErrorUtil.raiseUnexpectedCharacter(strNum, i, '0', '1', '2', '3', '4', '5', '6', '7', '8', '9');
             }
+            result = (result * 10) + (c - ZERO);
         }
-        catch (StringIndexOutOfBoundsException exc)
+
+        if (end < endExclusive)
         {
             ErrorUtil.raiseUnexpectedEndOfText(strNum, startInclusive);
         }
-
         return result;
     }
 
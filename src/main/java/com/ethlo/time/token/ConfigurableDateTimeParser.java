@@ -37,6 +37,8 @@ import com.ethlo.time.internal.token.FractionsToken;
 
 /**
  * A configurable format `DateTimeParser`.
+ * <p>
+ * Parsing stops after the last token, leaving any following data unread. The number of characters read is available from {@link DateTime#getParseLength()}.
  */
 public class ConfigurableDateTimeParser implements DateTimeParser
 {
@@ -67,6 +69,12 @@ public class ConfigurableDateTimeParser implements DateTimeParser
 
     @Override
     public DateTime parse(String text, ParsePosition parsePosition)
+    {
+        return parse((CharSequence) text, parsePosition);
+    }
+
+    @Override
+    public DateTime parse(CharSequence text, ParsePosition parsePosition)
     {
         try
         {
@@ -80,8 +88,9 @@ public class ConfigurableDateTimeParser implements DateTimeParser
         }
     }
 
-    private DateTime doParse(String text, ParsePosition parsePosition)
+    private DateTime doParse(CharSequence text, ParsePosition parsePosition)
     {
+        final int start = parsePosition.getIndex();
         int fractionsLength = 0;
         int highestOrdinal = YEAR.ordinal();
         final int[] values = new int[]{0, 1, 1, 0, 0, 0, 0, -1};
@@ -104,7 +113,7 @@ public class ConfigurableDateTimeParser implements DateTimeParser
             }
         }
 
-        return new DateTime(Field.values()[Math.min(highestOrdinal, NANO.ordinal())], values[Field.YEAR.ordinal()], values[Field.MONTH.ordinal()], values[Field.DAY.ordinal()], values[Field.HOUR.ordinal()], values[Field.MINUTE.ordinal()], values[Field.SECOND.ordinal()], values[Field.NANO.ordinal()], values[Field.ZONE_OFFSET.ordinal()] != -1 ? TimezoneOffset.ofTotalSeconds(values[Field.ZONE_OFFSET.ordinal()]) : null, fractionsLength);
+        return new DateTime(Field.values()[Math.min(highestOrdinal, NANO.ordinal())], values[Field.YEAR.ordinal()], values[Field.MONTH.ordinal()], values[Field.DAY.ordinal()], values[Field.HOUR.ordinal()], values[Field.MINUTE.ordinal()], values[Field.SECOND.ordinal()], values[Field.NANO.ordinal()], values[Field.ZONE_OFFSET.ordinal()] != -1 ? TimezoneOffset.ofTotalSeconds(values[Field.ZONE_OFFSET.ordinal()]) : null, fractionsLength, parsePosition.getIndex() - start);
     }
 
     private int scale(int value, int length)
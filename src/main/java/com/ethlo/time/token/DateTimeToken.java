@@ -28,6 +28,18 @@ public interface DateTimeToken
 {
     int read(String text, ParsePosition parsePosition);
 
+    /**
+     * Read the token from any character sequence. Implementations should override this to avoid copying the text to a {@link String}.
+     *
+     * @param text          The text to read from
+     * @param parsePosition The position to read from, updated after reading
+     * @return The value read
+     */
+    default int read(CharSequence text, ParsePosition parsePosition)
+    {
+        return read(text.toString(), parsePosition);
+    }
+
     default Field getField()
     {
         return null;
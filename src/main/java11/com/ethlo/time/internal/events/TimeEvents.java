@@ -0,0 +1,160 @@
+package com.ethlo.time.internal.events;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Hooks for emitting Java Flight Recorder events.
+ * <p>
+ * Failures are recorded as instant events, with a stack trace. At most {@value #DEFAULT_MAX_FAILURES_PER_SECOND} failures are recorded per second by default,
+ * which can be changed with the system property {@value #MAX_FAILURES_PER_SECOND_PROPERTY}. The input and the error message are only turned into text for recorded events.
+ * Batch operations are only recorded when they take longer than the threshold, 10 ms by default, which can be changed in the recording settings.
+ */
+public final class TimeEvents
+{
+    public static final String PARSE_DATE_TIME = "parseDateTime";
+    public static final String PARSE_LENIENT = "parseLenient";
+    public static final String PARSE_DURATION = "parseDuration";
+    public static final String FORMAT = "format";
+    public static final String SCAN = "scan";
+    public static final String READ_FIELDS = "readFields";
+    public static final String MAX_FAILURES_PER_SECOND_PROPERTY = "com.ethlo.time.events.maxFailuresPerSecond";
+    public static final int DEFAULT_MAX_FAILURES_PER_SECOND = 100;
+
+    private static final int MAX_INPUT_LENGTH = 256;
+    private static final int MAX_FAILURES_PER_SECOND = Integer.getInteger(MAX_FAILURES_PER_SECOND_PROPERTY, DEFAULT_MAX_FAILURES_PER_SECOND);
+    private static final AtomicInteger failuresInSecond = new AtomicInteger();
+    private static volatile long failureSecond;
+
+    private TimeEvents()
+    {
+    }
+
+    public static void failed(final String operation, final Object input, final RuntimeException exc)
+    {
+        final FailureEvent event = new FailureEvent();
+        if (event.isEnabled() && event.shouldCommit() && withinFailureLimit())
+        {
+            event.operation = operation;
+            event.input = toText(input);
+            event.errorType = exc.getClass().getName();
+            event.message = exc.getMessage();
+            event.commit();
+        }
+    }
+
+    private static boolean withinFailureLimit()
+    {
+        // Not exact when threads race on a new second, which is fine for keeping the overhead of repeated failures down
+        final long second = System.currentTimeMillis() / 1000;
+        if (second != failureSecond)
+        {
+            failureSecond = second;
+            failuresInSecond.set(0);
+        }
+        return failuresInSecond.incrementAndGet() <= MAX_FAILURES_PER_SECOND;
+    }
+
+    private static String toText(final Object input)
+    {
+        if (input instanceof CharSequence)
+        {
+            final CharSequence chars = (CharSequence) input;
+            return (chars.length() > MAX_INPUT_LENGTH ? chars.subSequence(0, MAX_INPUT_LENGTH) : chars).toString();
+        }
+        return input != null ? input.toString() : null;
+    }
+
+    public static Object beginBatch()
+    {
+        final BatchEvent event = new BatchEvent();
+        if (!event.isEnabled())
+        {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    public static void endBatch(final Object batch, final String operation, final long count, final long size)
+    {
+        if (batch != null)
+        {
+            final BatchEvent event = (BatchEvent) batch;
+            event.end();
+            if (event.shouldCommit())
+            {
+                event.operation = operation;
+                event.count = count;
+                event.size = size;
+                event.commit();
+            }
+        }
+    }
+
+    @Name("com.ethlo.time.Failure")
+    @Label("Date-Time Failure")
+    @Description("A date-time or duration could not be parsed or formatted")
+    @Category({"Internet Time Utility"})
+    static class FailureEvent extends Event
+    {
+        @Label("Operation")
+        String operation;
+
+        @Label("Input")
+        String input;
+
+        @Label("Error Type")
+        String errorType;
+
+        @Label("Message")
+        String message;
+    }
+
+    @Name("com.ethlo.time.Batch")
+    @Label("Date-Time Batch")
+    @Description("A batch of date-times was scanned or read")
+    @Category({"Internet Time Utility"})
+    @Threshold("10 ms")
+    @StackTrace(false)
+    static class BatchEvent extends Event
+    {
+        @Label("Operation")
+        String operation;
+
+        @Label("Count")
+        @Description("The number of date-times found")
+        long count;
+
+        @Label("Size")
+        @Description("The size of the input, in bytes or characters")
+        long size;
+    }
+}
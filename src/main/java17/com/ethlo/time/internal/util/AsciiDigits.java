@@ -0,0 +1,101 @@
+package com.ethlo.time.internal.util;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Reads the fixed-width date and time parts of an RFC-3339 date-time from ASCII bytes.
+ * <p>
+ * This version loads 8 bytes at a time through a {@link VarHandle} view of the byte array, and validates all digits and separators of a part with a single mask test.
+ */
+public final class AsciiDigits
+{
+    private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle SHORT = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final long ZEROS = 0x3030_3030_3030_3030L;
+    private static final long HIGH_NIBBLES = 0xF0F0_F0F0_F0F0_F0F0L;
+    private static final long SIXES = 0x0606_0606_0606_0606L;
+
+    // yyyy-MM-: digits in bytes 0-3 and 5-6, '-' in bytes 4 and 7
+    private static final long DATE_DIGITS = 0x00FF_FF00_FFFF_FFFFL;
+    private static final long DATE_SEPARATORS = 0x2D00_002D_0000_0000L;
+
+    // HH:mm:ss: digits in bytes 0-1, 3-4 and 6-7, ':' in bytes 2 and 5
+    private static final long TIME_DIGITS = 0xFFFF_00FF_FF00_FFFFL;
+    private static final long TIME_SEPARATORS = 0x0000_3A00_003A_0000L;
+
+    private AsciiDigits()
+    {
+    }
+
+    public static int readDate(final byte[] buf, final int offset)
+    {
+        final long value = (long) LONG.get(buf, offset);
+        final int days = digits2(buf, offset + 8);
+        if ((value & ~DATE_DIGITS) != DATE_SEPARATORS || !isDigits(value, DATE_DIGITS) || days < 0)
+        {
+            return -1;
+        }
+
+        final long digits = (value ^ ZEROS) & DATE_DIGITS;
+        final int years = (int) ((digits & 0xFF) * 1000 + ((digits >>> 8) & 0xFF) * 100 + ((digits >>> 16) & 0xFF) * 10 + ((digits >>> 24) & 0xFF));
+        final int months = (int) (((digits >>> 40) & 0xFF) * 10 + ((digits >>> 48) & 0xFF));
+        return years * 10_000 + months * 100 + days;
+    }
+
+    public static int readTime(final byte[] buf, final int offset)
+    {
+        final long value = (long) LONG.get(buf, offset);
+        if ((value & ~TIME_DIGITS) != TIME_SEPARATORS || !isDigits(value, TIME_DIGITS))
+        {
+            return -1;
+        }
+
+        final long digits = (value ^ ZEROS) & TIME_DIGITS;
+        final int hours = (int) ((digits & 0xFF) * 10 + ((digits >>> 8) & 0xFF));
+        final int minutes = (int) (((digits >>> 24) & 0xFF) * 10 + ((digits >>> 32) & 0xFF));
+        final int seconds = (int) (((digits >>> 48) & 0xFF) * 10 + ((digits >>> 56) & 0xFF));
+        return hours * 10_000 + minutes * 100 + seconds;
+    }
+
+    public static int digits2(final byte[] buf, final int index)
+    {
+        final int value = ((short) SHORT.get(buf, index) & 0xFFFF) ^ 0x3030;
+        if ((value & 0xF0F0) != 0 || ((value + 0x0606) & 0xF0F0) != 0)
+        {
+            return -1;
+        }
+        return (value & 0xFF) * 10 + (value >>> 8);
+    }
+
+    /**
+     * Whether all bytes selected by the mask are ASCII digits. XOR with '0' maps the digits to 0-9 with a clear high nibble, and adding 6 carries 10-15 into the high nibble.
+     */
+    private static boolean isDigits(final long value, final long mask)
+    {
+        final long digits = (value ^ ZEROS) & mask;
+        return (digits & HIGH_NIBBLES) == 0 && ((digits + SIXES) & HIGH_NIBBLES & mask) == 0;
+    }
+}
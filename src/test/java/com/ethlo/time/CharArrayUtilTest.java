@@ -21,7 +21,9 @@ package com.ethlo.time;
  */
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.time.format.DateTimeParseException;
 import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
@@ -49,4 +51,25 @@ public class CharArrayUtilTest
         LimitedCharArrayIntegerUtil.toString(value, buf, 0, 6);
         assertThat(Arrays.copyOf(buf, 6)).isEqualTo(expected);
     }
+
+    @Test
+    public void testParsePositiveInt()
+    {
+        assertThat(LimitedCharArrayIntegerUtil.parsePositiveInt("x2024-12", 1, 5)).isEqualTo(2024);
+    }
+
+    @Test
+    public void testParsePositiveIntEndOfText()
+    {
+        final DateTimeParseException exc = assertThrows(DateTimeParseException.class, () -> LimitedCharArrayIntegerUtil.parsePositiveInt("202", 0, 4));
+        assertThat(exc).hasMessage("Unexpected end of input: 202");
+        assertThat(exc.getErrorIndex()).isEqualTo(0);
+    }
+
+    @Test
+    public void testParsePositiveIntInvalidCharacterBeforeEndOfText()
+    {
+        final DateTimeParseException exc = assertThrows(DateTimeParseException.class, () -> LimitedCharArrayIntegerUtil.parsePositiveInt("2a", 0, 4));
+        assertThat(exc.getErrorIndex()).isEqualTo(1);
+    }
 }
@@ -0,0 +1,126 @@
+package com.ethlo.time;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.CharBuffer;
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.format.DateTimeParseException;
+
+import org.junit.jupiter.api.Test;
+
+public class CharSequenceParseTest
+{
+    private static final String[] VALID = {"2017-12-09T11:23:39Z", "2017-12-09t11:23:39.5z", "2017-12-09 11:23:39.123456789+05:30", "2017-12-09T11:23:39-01:00", "2017-12-09T11:23:39+00:00"};
+
+    @Test
+    void parseDateTimeFromCharSequence()
+    {
+        for (final String text : VALID)
+        {
+            assertThat(ITU.parseDateTime(new StringBuilder(text))).isEqualTo(ITU.parseDateTime(text));
+            assertThat(ITU.parseDateTime(CharBuffer.wrap(text))).isEqualTo(ITU.parseDateTime(text));
+        }
+    }
+
+    @Test
+    void parseDateTimeFromCharArraySlice()
+    {
+        for (final String text : VALID)
+        {
+            final char[] buf = ("{\"t\":\"" + text + "\"}").toCharArray();
+            assertThat(ITU.parseDateTime(buf, 6, text.length())).isEqualTo(ITU.parseDateTime(text));
+        }
+    }
+
+    @Test
+    void parseDateTimeFromCharArraySliceInvalid()
+    {
+        final char[] buf = "xx2017-12-09T11:23:3aZxx".toCharArray();
+        final DateTimeParseException exc = assertThrows(DateTimeParseException.class, () -> ITU.parseDateTime(buf, 2, 20));
+        assertThat(exc.getErrorIndex()).isEqualTo(18);
+        assertThat(exc.getParsedString()).isEqualTo("2017-12-09T11:23:3aZ");
+    }
+
+    @Test
+    void parseDateTimeFromCharArrayOutOfBounds()
+    {
+        assertThrows(IndexOutOfBoundsException.class, () -> ITU.parseDateTime(new char[10], 5, 10));
+    }
+
+    @Test
+    void parseLenientFromCharSequence()
+    {
+        for (final String text : new String[]{"2017", "2017-12", "2017-12-09", "2017-12-09T11:23", "2017-12-09T11:23:39", "2017-12-09T11:23+02:00", VALID[0], VALID[1], VALID[2], VALID[3], VALID[4]})
+        {
+            final DateTime expected = ITU.parseLenient(text);
+            final DateTime fromBuilder = ITU.parseLenient(new StringBuilder(text));
+            assertThat(fromBuilder).isEqualTo(expected);
+            assertThat(fromBuilder.toString()).isEqualTo(expected.toString());
+            assertThat(ITU.parseLenient(("  " + text).toCharArray(), 2, text.length())).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void parseLenientFromCharSequenceWithConfig()
+    {
+        final ParseConfig config = ParseConfig.STRICT;
+        assertThat(ITU.parseLenient(new StringBuilder("2017-12-09T11:23:39Z"), config)).isEqualTo(ITU.parseLenient("2017-12-09T11:23:39Z", config));
+        assertThrows(DateTimeException.class, () -> ITU.parseLenient(new StringBuilder("2017-12-09 11:23:39Z"), config));
+        assertThrows(DateTimeException.class, () -> ITU.parseLenient("2017-12-09 11:23:39Z".toCharArray(), 0, 20, config));
+    }
+
+    @Test
+    void parseLenientWithPosition()
+    {
+        final ParsePosition position = new ParsePosition(3);
+        final DateTime result = ITU.parseLenient("abc2017-12-09T11:23:39.123Z", ParseConfig.DEFAULT, position);
+        assertThat(result.getParseLength()).isEqualTo(24);
+        assertThat(position.getIndex()).isEqualTo(27);
+    }
+
+    @Test
+    void parseDurationFromCharSequence()
+    {
+        assertThat(ITU.parseDuration(new StringBuilder("P1DT2H"))).isEqualTo(ITU.parseDuration("P1DT2H"));
+        assertThat(ITU.parseDuration("[PT1.5S]".toCharArray(), 1, 6)).isEqualTo(ITU.parseDuration("PT1.5S"));
+    }
+
+    @Test
+    void parseConfigurableFromCharSequence()
+    {
+        final DateTimeParser parser = DateTimeParsers.rfc3339();
+        final CharBuffer slice = CharBuffer.wrap("--2017-12-09T11:23:39.123Z--".toCharArray(), 2, 24);
+        assertThat(parser.parse(slice)).isEqualTo(parser.parse("2017-12-09T11:23:39.123Z"));
+    }
+
+    @Test
+    void parseConfigurableFromCharSequenceInvalid()
+    {
+        final DateTimeParser parser = DateTimeParsers.rfc3339();
+        final ParsePosition position = new ParsePosition(0);
+        assertThrows(DateTimeParseException.class, () -> parser.parse(new StringBuilder("2017-12-09X11:23:39Z"), position));
+        assertThat(position.getErrorIndex()).isEqualTo(10);
+    }
+}
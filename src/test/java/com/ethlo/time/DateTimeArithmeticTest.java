@@ -0,0 +1,116 @@
+package com.ethlo.time;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.DateTimeException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.ethlo.time.internal.DateTimeFormatException;
+
+class DateTimeArithmeticTest
+{
+    private static final long[] AMOUNTS = {0, 1, -1, 59, -61, 3_599, 86_399, -86_401, 1_000_000_007L, -2_000_000_003L};
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2017-12-31T23:59:59Z", "2016-02-28T12:00:00.5+05:30", "2000-03-01T00:00:00.123456789-08:00", "0001-01-01T00:00:01Z", "1969-12-31T23:59:59.999Z"})
+    void testPlusTimeSameAsJavaTime(String input)
+    {
+        final DateTime dateTime = ITU.parseLenient(input);
+        final OffsetDateTime odt = dateTime.toOffsetDatetime();
+        final int nanos = dateTime.includesGranularity(Field.NANO) ? 750_000_000 : 0;
+        for (long amount : AMOUNTS)
+        {
+            assertThat(dateTime.plusSeconds(amount).toOffsetDatetime()).isEqualTo(odt.plusSeconds(amount));
+            assertThat(dateTime.minusSeconds(amount).toOffsetDatetime()).isEqualTo(odt.minusSeconds(amount));
+            assertThat(dateTime.plusMinutes(amount).toOffsetDatetime()).isEqualTo(odt.plusMinutes(amount));
+            assertThat(dateTime.minusHours(amount).toOffsetDatetime()).isEqualTo(odt.minusHours(amount));
+            assertThat(dateTime.plusDays(amount).toOffsetDatetime()).isEqualTo(odt.plusDays(amount));
+            assertThat(dateTime.minusMonths(amount % 1_000_000).toOffsetDatetime()).isEqualTo(odt.minusMonths(amount % 1_000_000));
+            assertThat(dateTime.plus(Duration.of(amount, nanos)).toOffsetDatetime()).isEqualTo(odt.plus(java.time.Duration.ofSeconds(amount, nanos)));
+            assertThat(dateTime.minus(Duration.of(amount, nanos)).toOffsetDatetime()).isEqualTo(odt.minus(java.time.Duration.ofSeconds(amount, nanos)));
+        }
+    }
+
+    @Test
+    void testKeepsGranularityAndFractionDigits()
+    {
+        final DateTime dateTime = ITU.parseLenient("2017-12-31T23:59:59.120Z");
+        final DateTime result = dateTime.plusSeconds(1);
+        assertThat(result.getMostGranularField()).isEqualTo(Field.NANO);
+        assertThat(result.getFractionDigits()).isEqualTo(3);
+        assertThat(result.toString()).isEqualTo("2018-01-01T00:00:00.120Z");
+
+        final DateTime minutes = ITU.parseLenient("2017-12-31T23:59");
+        assertThat(minutes.plusMinutes(2).toString()).isEqualTo("2018-01-01T00:01");
+        assertThat(ITU.parseLenient("2016-02-28").plusDays(1).toString()).isEqualTo("2016-02-29");
+    }
+
+    @Test
+    void testPlusMonthsClampsDay()
+    {
+        assertThat(ITU.parseLenient("2016-01-31").plusMonths(1).toString()).isEqualTo("2016-02-29");
+        assertThat(ITU.parseLenient("2017-01-31T10:00:00Z").plusMonths(1).toString()).isEqualTo("2017-02-28T10:00:00Z");
+        assertThat(ITU.parseLenient("2017-03-31").minusMonths(1).toString()).isEqualTo("2017-02-28");
+        assertThat(ITU.parseLenient("2017-11").plusMonths(3).toString()).isEqualTo("2018-02");
+        assertThat(ITU.parseLenient("2017-01").minusMonths(13).toString()).isEqualTo("2015-12");
+    }
+
+    @Test
+    void testWithOffset()
+    {
+        final DateTime dateTime = ITU.parseLenient("2017-12-31T23:30:00.25Z");
+        final DateTime result = dateTime.withOffset(TimezoneOffset.ofHoursMinutes(5, 30));
+        assertThat(result.toString()).isEqualTo("2018-01-01T05:00:00.25+05:30");
+        assertThat(result.toOffsetDatetime()).isEqualTo(dateTime.toOffsetDatetime().withOffsetSameInstant(ZoneOffset.ofHoursMinutes(5, 30)));
+        assertThat(result.withOffset(TimezoneOffset.UTC).toString()).isEqualTo(dateTime.toString());
+    }
+
+    @Test
+    void testWithOffsetWithoutOffset()
+    {
+        assertThrows(DateTimeException.class, () -> ITU.parseLenient("2017-12-31T23:30:00").withOffset(TimezoneOffset.UTC));
+    }
+
+    @Test
+    void testGranularityTooCoarse()
+    {
+        assertThrows(DateTimeFormatException.class, () -> ITU.parseLenient("2017-12").plusDays(1));
+        assertThrows(DateTimeFormatException.class, () -> ITU.parseLenient("2017").plusMonths(1));
+        assertThrows(DateTimeException.class, () -> ITU.parseLenient("2017-12-31").plusHours(1));
+        assertThrows(DateTimeException.class, () -> ITU.parseLenient("2017-12-31T10:00").plusSeconds(1));
+        assertThrows(DateTimeException.class, () -> ITU.parseLenient("2017-12-31T10:00:00Z").plus(Duration.ofMillis(1)));
+    }
+
+    @Test
+    void testOverflow()
+    {
+        assertThrows(ArithmeticException.class, () -> ITU.parseLenient("2017-12-31").plusDays(Long.MAX_VALUE));
+        assertThrows(ArithmeticException.class, () -> ITU.parseLenient("2017-12").plusMonths(Long.MAX_VALUE));
+    }
+}
@@ -22,6 +22,11 @@ package com.ethlo.time;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
@@ -50,4 +55,52 @@ public class DateTimeTest
         System.out.println(a);
         assertThat(a.hashCode()).isEqualTo(-309185068);
     }
+
+    @Test
+    public void testHashcodeSameAsObjectsHash()
+    {
+        for (DateTime dateTime : Arrays.asList(a, c, d, e, ITU.parseLenient("2018-01-06T23:59:12.120"), ITU.parseLenient("2018")))
+        {
+            final TimezoneOffset offset = dateTime.getOffset().orElse(null);
+            assertThat(dateTime.hashCode()).isEqualTo(Objects.hash(dateTime.getMostGranularField().ordinal(), dateTime.getYear(), dateTime.getMonth(), dateTime.getDayOfMonth(),
+                    dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond(), dateTime.getNano(), offset, dateTime.getFractionDigits()));
+        }
+    }
+
+    @Test
+    public void testCompareTo()
+    {
+        final DateTime sameInstantAsA = ITU.parseLenient("2018-01-07T04:29:12Z");
+        assertThat(a.compareTo(b)).isEqualTo(0);
+        assertThat(a.compareTo(c)).isLessThan(0);
+        assertThat(c.compareTo(a)).isGreaterThan(0);
+        assertThat(d.compareTo(a)).isLessThan(0);
+        assertThat(a.compareTo(sameInstantAsA)).isNotEqualTo(0);
+        assertThat(Integer.signum(a.compareTo(sameInstantAsA))).isEqualTo(-Integer.signum(sameInstantAsA.compareTo(a)));
+        assertThat(ITU.parseLenient("2018-01-06T23:59:12").compareTo(ITU.parseLenient("2018-01-06T23:59:12Z"))).isLessThan(0);
+        assertThat(ITU.parseLenient("2018-01-06T23:59:12.1Z").compareTo(ITU.parseLenient("2018-01-06T23:59:12.100Z"))).isLessThan(0);
+    }
+
+    @Test
+    public void testInstantOrder()
+    {
+        assertThat(DateTime.INSTANT_ORDER.compare(a, ITU.parseLenient("2018-01-07T04:29:12Z"))).isEqualTo(0);
+        assertThat(DateTime.INSTANT_ORDER.compare(a, ITU.parseLenient("2018-01-07T04:29:12.000000001Z"))).isLessThan(0);
+        assertThat(DateTime.INSTANT_ORDER.compare(a, c)).isLessThan(0);
+
+        final List<DateTime> values = Arrays.asList(c, e, a, d, ITU.parseLenient("1999-12-31T23:59:59.999999999-01:00"));
+        Collections.sort(values, DateTime.INSTANT_ORDER);
+        for (int i = 1; i < values.size(); i++)
+        {
+            assertThat(values.get(i - 1).toInstant().isAfter(values.get(i).toInstant())).isFalse();
+        }
+    }
+
+    @Test
+    public void testFieldOrder()
+    {
+        assertThat(DateTime.FIELD_ORDER.compare(a, c)).isEqualTo(0);
+        assertThat(DateTime.FIELD_ORDER.compare(d, e)).isGreaterThan(0);
+        assertThat(DateTime.FIELD_ORDER.compare(a, ITU.parseLenient("2018-01-07T04:29:12Z"))).isLessThan(0);
+    }
 }
@@ -0,0 +1,135 @@
+package com.ethlo.time;
+
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.time.DateTimeException;
+import java.time.temporal.Temporal;
+
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class DateTimeVisitorTest
+{
+    private static final DateTimeVisitor<DateTime> TO_DATE_TIME = (granularity, year, month, day, hour, minute, second, nano, offsetSeconds) ->
+            new DateTime(granularity, year, month, day, hour, minute, second, nano, offsetSeconds != DateTimeVisitor.NO_OFFSET ? TimezoneOffset.ofTotalSeconds(offsetSeconds) : null, 0);
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2017", "2017-12", "2017-12-21", "2017-12-21T12:20", "2017-12-21 12:20:45", "2017-12-21t12:20:45.123",
+            "2017-12-21T12:20:45Z", "2017-12-21T12:20:45.123456789+05:30", "2017-12-21T12:20+01:00", "2016-02-29T00:00:00-08:00"})
+    void testSameAsLenient(String input)
+    {
+        final DateTime expected = ITU.parseLenient(input);
+        final DateTime actual = ITU.parse(input, TO_DATE_TIME);
+        assertThat(actual.getMostGranularField()).isEqualTo(expected.getMostGranularField());
+        assertThat(actual.getYear()).isEqualTo(expected.getYear());
+        assertThat(actual.getMonth()).isEqualTo(expected.getMonth());
+        assertThat(actual.getDayOfMonth()).isEqualTo(expected.getDayOfMonth());
+        assertThat(actual.getHour()).isEqualTo(expected.getHour());
+        assertThat(actual.getMinute()).isEqualTo(expected.getMinute());
+        assertThat(actual.getSecond()).isEqualTo(expected.getSecond());
+        assertThat(actual.getNano()).isEqualTo(expected.getNano());
+        assertThat(actual.getOffset()).isEqualTo(expected.getOffset());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "201", "2017-13", "2017-00", "2017-02-29", "2017-12-21T24:00", "2017-12-21T12:60", "2017-12-21T12:20:60", "2017-12-21X12:20",
+            "2017-12-21T12:20:45-00:00", "2017-12-21T12:20:45Zjunk", "2017-12-21T12:20:45."})
+    void testInvalidSameAsTemporalHandler(String input)
+    {
+        final DateTimeException expected = assertThrows(DateTimeException.class, () -> ITU.parse(input, new TemporalHandler<Object>()
+        {
+            @Override
+            public Object fallback(final Temporal temporal)
+            {
+                return temporal;
+            }
+        }));
+        final DateTimeException actual = assertThrows(DateTimeException.class, () -> ITU.parse(input, TO_DATE_TIME));
+        assertThat(actual.getClass()).isEqualTo(expected.getClass());
+        assertThat(actual.getMessage()).isEqualTo(expected.getMessage());
+    }
+
+    @Test
+    void testNoOffset()
+    {
+        assertThat(ITU.parse("2017-12-21T12:20:45", (DateTimeVisitor<Integer>) (granularity, year, month, day, hour, minute, second, nano, offsetSeconds) -> offsetSeconds))
+                .isEqualTo(DateTimeVisitor.NO_OFFSET);
+        assertThat(ITU.parse("2017-12-21T12:20:45-01:30", (DateTimeVisitor<Integer>) (granularity, year, month, day, hour, minute, second, nano, offsetSeconds) -> offsetSeconds))
+                .isEqualTo(-5400);
+    }
+
+    @Test
+    void testIsValidTypes()
+    {
+        assertThat(ITU.isValid("2017", TemporalType.YEAR)).isTrue();
+        assertThat(ITU.isValid("2017-12", TemporalType.YEAR_MONTH)).isTrue();
+        assertThat(ITU.isValid("2017-12", TemporalType.YEAR)).isFalse();
+        assertThat(ITU.isValid("2017-12-21", TemporalType.LOCAL_DATE)).isTrue();
+        assertThat(ITU.isValid("2017-12-21T12:20", TemporalType.LOCAL_DATE_TIME)).isTrue();
+        assertThat(ITU.isValid("2017-12-21T12:20Z", TemporalType.OFFSET_DATE_TIME)).isTrue();
+        assertThat(ITU.isValid("2017-12-21T12:20:45.1", TemporalType.LOCAL_DATE_TIME)).isTrue();
+        assertThat(ITU.isValid("2017-12-21T12:20:45Z", TemporalType.LOCAL_DATE_TIME)).isFalse();
+        assertThat(ITU.isValid("2017-13", TemporalType.YEAR_MONTH)).isFalse();
+        assertThat(ITU.isValid("2017-12-21T24:00", TemporalType.LOCAL_DATE_TIME)).isFalse();
+    }
+
+    @Test
+    void testCommonLayoutsDoNotAllocate()
+    {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean);
+        final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        final String[] inputs = {"2017", "2017-12", "2017-12-21", "2017-12-21T12:20", "2017-12-21T12:20:45", "2017-12-21T12:20:45Z", "2017-12-21T12:20:45.123456789+05:30"};
+        final TemporalType[] types = {TemporalType.OFFSET_DATE_TIME, TemporalType.LOCAL_DATE};
+        final DateTimeVisitor<Integer> nano = (granularity, year, month, day, hour, minute, second, nanos, offsetSeconds) -> nanos > 0 ? 1 : 0;
+        final int iterations = 100_000;
+        int valid = 0;
+        // Warm up, which also creates the field reader for this thread
+        for (int i = 0; i < iterations; i++)
+        {
+            valid += ITU.isValid(inputs[i % inputs.length], types) ? 1 : 0;
+            valid += ITU.parse(inputs[i % inputs.length], nano);
+        }
+
+        final long threadId = Thread.currentThread().getId();
+        final long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++)
+        {
+            valid += ITU.isValid(inputs[i % inputs.length], types) ? 1 : 0;
+            valid += ITU.parse(inputs[i % inputs.length], nano);
+        }
+        final long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertThat(valid).isGreaterThan(0);
+        // Allows for the measurement itself, but not for a single object per call
+        assertThat(allocated).isLessThan(iterations);
+    }
+}
@@ -0,0 +1,216 @@
+package com.ethlo.time;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.CharBuffer;
+import java.time.DateTimeException;
+import java.time.OffsetDateTime;
+
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Test;
+
+public class FormatToTest
+{
+    private final OffsetDateTime date = OffsetDateTime.parse("2017-02-21T10:00:00.123456789+12:00");
+
+    @Test
+    void formatToStringBuilder()
+    {
+        final StringBuilder sb = new StringBuilder("t=");
+        ITU.formatTo(date, 3, sb);
+        sb.append(',');
+        ITU.formatUtcTo(date, 6, sb);
+        sb.append(',');
+        ITU.formatUtcTo(date, Field.MINUTE, sb);
+        assertThat(sb.toString()).isEqualTo("t=" + ITU.format(date, 3) + "," + ITU.formatUtcMicro(date) + "," + ITU.formatUtc(date, Field.MINUTE));
+    }
+
+    @Test
+    void formatToWriter() throws IOException
+    {
+        final StringWriter writer = new StringWriter();
+        ITU.formatTo(date, 9, writer);
+        ITU.formatUtcTo(date, 0, writer);
+        ITU.formatUtcTo(date, Field.DAY, writer);
+        assertThat(writer.toString()).isEqualTo(ITU.format(date, 9) + ITU.formatUtc(date) + ITU.formatUtc(date, Field.DAY));
+    }
+
+    @Test
+    void formatToOtherAppendable() throws IOException
+    {
+        final CharBuffer buffer = CharBuffer.allocate(64);
+        ITU.formatUtcTo(date, 3, buffer);
+        buffer.flip();
+        assertThat(buffer.toString()).isEqualTo(ITU.formatUtcMilli(date));
+    }
+
+    @Test
+    void formatToTooManyFractionDigits()
+    {
+        final StringBuilder sb = new StringBuilder();
+        assertThrows(DateTimeException.class, () -> ITU.formatUtcTo(date, 10, sb));
+        assertThat(sb.length()).isZero();
+    }
+
+    @Test
+    void formatDateTimeTo() throws IOException
+    {
+        for (final String text : new String[]{"2017", "2017-02", "2017-02-21", "2017-02-21T10:00", "2017-02-21T10:00:00Z", "2017-02-21T10:00:00.120-05:30"})
+        {
+            final DateTime dateTime = ITU.parseLenient(text);
+            final StringBuilder sb = new StringBuilder();
+            dateTime.formatTo(sb);
+            assertThat(sb.toString()).isEqualTo(dateTime.toString());
+
+            final StringWriter writer = new StringWriter();
+            dateTime.formatTo(writer);
+            assertThat(writer.toString()).isEqualTo(dateTime.toString());
+        }
+    }
+
+    @Test
+    void formatDateTimeToWithGranularity() throws IOException
+    {
+        final DateTime dateTime = ITU.parseLenient("2017-02-21T10:00:00.123456789Z");
+        final StringBuilder sb = new StringBuilder();
+        dateTime.formatTo(sb, Field.HOUR);
+        sb.append(' ');
+        dateTime.formatTo(sb, 4);
+        sb.append(' ');
+        dateTime.formatTo((Appendable) sb, Field.SECOND);
+        assertThat(sb.toString()).isEqualTo(dateTime.toString(Field.HOUR) + " " + dateTime.toString(4) + " " + dateTime.toString(Field.SECOND));
+    }
+
+    @Test
+    void formatDurationTo() throws IOException
+    {
+        for (final String text : new String[]{"PT0S", "P1W2DT3H4M5.000600S", "-PT7.5S", "-P1W3DT4H5M6.123456789S", "PT0.000000001S"})
+        {
+            final Duration duration = ITU.parseDuration(text);
+            final StringBuilder sb = new StringBuilder();
+            duration.formatTo(sb);
+            assertThat(sb.toString()).isEqualTo(duration.normalized());
+
+            final StringWriter writer = new StringWriter();
+            duration.formatTo(writer);
+            assertThat(writer.toString()).isEqualTo(duration.normalized());
+
+            final CharBuffer buffer = CharBuffer.allocate(64);
+            duration.formatTo(buffer);
+            buffer.flip();
+            assertThat(buffer.toString()).isEqualTo(duration.normalized());
+        }
+    }
+
+    @Test
+    void formatLongestDurationTo() throws IOException
+    {
+        final CharBuffer buffer = CharBuffer.allocate(64);
+        Duration.of(Long.MIN_VALUE, 1).formatTo(buffer);
+        buffer.flip();
+        assertThat(buffer.toString()).isEqualTo("-P15250284452471W3DT15H30M7.999999999S");
+        assertThat(Duration.of(Long.MAX_VALUE, 999_999_999).normalized()).isEqualTo("P15250284452471W3DT15H30M7.999999999S");
+    }
+
+    @Test
+    void formatDurationFractionWithoutTrailingZeros()
+    {
+        final StringBuilder sb = new StringBuilder();
+        ITU.parseDuration("P1W2DT3H4M5.000600S").formatTo(sb);
+        assertThat(sb.toString()).isEqualTo("P1W2DT3H4M5.0006S");
+    }
+
+    @Test
+    void formatToNestedAppendable() throws IOException
+    {
+        // An Appendable that formats a value of its own for every character it receives
+        final StringBuilder nested = new StringBuilder();
+        final StringBuilder received = new StringBuilder();
+        final Appendable target = new Appendable()
+        {
+            @Override
+            public Appendable append(final CharSequence csq)
+            {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Appendable append(final CharSequence csq, final int start, final int end)
+            {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Appendable append(final char c)
+            {
+                ITU.formatUtcTo(date, Field.DAY, nested);
+                received.append(c);
+                return this;
+            }
+        };
+        ITU.formatTo(date, 9, target);
+        assertThat(received.toString()).isEqualTo(ITU.format(date, 9));
+        assertThat(nested.toString()).startsWith(ITU.formatUtc(date, Field.DAY) + ITU.formatUtc(date, Field.DAY));
+    }
+
+    @Test
+    void formatToStringBuilderDoesNotAllocate()
+    {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean);
+        final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        final DateTime dateTime = DateTime.of(date);
+        final Duration duration = ITU.parseDuration("P1W2DT3H4M5.0006S");
+        final StringBuilder sb = new StringBuilder(128);
+        final int iterations = 100_000;
+        for (int i = 0; i < iterations; i++)
+        {
+            sb.setLength(0);
+            dateTime.formatTo(sb);
+            duration.formatTo(sb);
+            ITU.formatTo(date, 9, sb);
+        }
+
+        final long threadId = Thread.currentThread().getId();
+        final long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++)
+        {
+            sb.setLength(0);
+            dateTime.formatTo(sb);
+            duration.formatTo(sb);
+            ITU.formatTo(date, 9, sb);
+        }
+        final long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertThat(sb.toString()).isEqualTo(dateTime + "P1W2DT3H4M5.0006S" + ITU.format(date, 9));
+        // Allows for the measurement itself, but not for a buffer per call
+        assertThat(allocated).isLessThan(iterations);
+    }
+}
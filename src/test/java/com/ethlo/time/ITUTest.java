@@ -55,6 +55,21 @@ public class ITUTest
         assertThat(ITU.parseDateTime(VALID_DATETIME.toString())).isNotNull();
     }
 
+    @Test
+    public void parseDateTimeSameAsLenient()
+    {
+        for (final String text : new String[]{"2017-12-09T11:23:39Z", "2017-12-09t11:23:39.5z", "2017-12-09 11:23:39.123456789+05:30", "2017-12-09T11:23:39.000001-18:00", "1970-01-01T00:00:00+14:00"})
+        {
+            assertThat(ITU.parseDateTime(text)).isEqualTo(ITU.parseLenient(text).toOffsetDatetime());
+        }
+    }
+
+    @Test
+    public void parseDateTimeInvalidOffsetAfterValidDateTime()
+    {
+        assertThrows(DateTimeException.class, () -> ITU.parseDateTime("2017-12-09T11:23:39-00:00"));
+    }
+
     @Test
     public void parseDateTimeWithoutSeconds()
     {
@@ -0,0 +1,94 @@
+package com.ethlo.time;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+class LeapSecondConverterTest
+{
+    private final LeapSecondConverter converter = LeapSecondConverter.getDefault();
+
+    @Test
+    void testTaiUtcOffset()
+    {
+        assertThat(converter.getTaiUtcOffset(epochSecond("1970-01-01T00:00:00Z"))).isEqualTo(10);
+        assertThat(converter.getTaiUtcOffset(epochSecond("1972-06-30T23:59:59Z"))).isEqualTo(10);
+        assertThat(converter.getTaiUtcOffset(epochSecond("1972-07-01T00:00:00Z"))).isEqualTo(11);
+        assertThat(converter.getTaiUtcOffset(epochSecond("2016-12-31T23:59:59Z"))).isEqualTo(36);
+        assertThat(converter.getTaiUtcOffset(epochSecond("2024-01-01T00:00:00Z"))).isEqualTo(37);
+    }
+
+    @Test
+    void testGps()
+    {
+        assertThat(converter.toGpsSeconds(LeapSecondConverter.GPS_EPOCH_SECOND)).isEqualTo(0L);
+        final long utc = epochSecond("2024-01-01T00:00:00Z");
+        assertThat(converter.toGpsSeconds(utc)).isEqualTo(utc - LeapSecondConverter.GPS_EPOCH_SECOND + 18);
+        assertThat(converter.gpsToUtcEpochSeconds(converter.toGpsSeconds(utc))).isEqualTo(utc);
+    }
+
+    @Test
+    void testLeapSecond()
+    {
+        final LeapSecondException exc = assertThrows(LeapSecondException.class, () -> ITU.parseDateTime("2016-12-31T23:59:60Z"));
+        final long before = converter.toTaiSeconds(epochSecond("2016-12-31T23:59:59Z"));
+        final long leap = converter.toTaiSeconds(exc);
+        final long after = converter.toTaiSeconds(ITU.parseLenient("2017-01-01T00:00:00Z"));
+        assertThat(leap).isEqualTo(before + 1);
+        assertThat(after).isEqualTo(leap + 1);
+
+        assertThat(converter.isLeapSecond(leap)).isTrue();
+        assertThat(converter.isLeapSecond(before)).isFalse();
+        assertThat(converter.isLeapSecond(after)).isFalse();
+        assertThat(converter.toUtcEpochSeconds(before)).isEqualTo(epochSecond("2016-12-31T23:59:59Z"));
+        assertThat(converter.toUtcEpochSeconds(leap)).isEqualTo(epochSecond("2017-01-01T00:00:00Z"));
+        assertThat(converter.toUtcEpochSeconds(after)).isEqualTo(epochSecond("2017-01-01T00:00:00Z"));
+    }
+
+    @Test
+    void testUnknownLeapSecond()
+    {
+        final LeapSecondException exc = assertThrows(LeapSecondException.class, () -> ITU.parseDateTime("2032-06-30T23:59:60Z"));
+        assertThrows(DateTimeException.class, () -> converter.toTaiSeconds(exc));
+    }
+
+    @Test
+    void testSmeared()
+    {
+        final LeapSecondException exc = assertThrows(LeapSecondException.class, () -> ITU.parseDateTime("2016-12-31T23:59:60.5Z"));
+        assertThat(converter.toSmearedInstant(exc)).isEqualTo(Instant.parse("2016-12-31T23:59:59.500499500Z"));
+        assertThat(converter.toSmearedInstant(ITU.parseLenient("2016-12-31T23:43:20Z"))).isEqualTo(Instant.parse("2016-12-31T23:43:20Z"));
+        assertThat(converter.toSmearedInstant(ITU.parseLenient("2016-12-31T23:51:40Z"))).isEqualTo(Instant.parse("2016-12-31T23:51:39.500499500Z"));
+        assertThat(converter.toSmearedInstant(ITU.parseLenient("2017-01-01T00:00:00Z"))).isEqualTo(Instant.parse("2017-01-01T00:00:00Z"));
+        assertThat(converter.toSmearedInstant(ITU.parseLenient("2017-06-30T23:59:59.5Z"))).isEqualTo(Instant.parse("2017-06-30T23:59:59.5Z"));
+    }
+
+    private static long epochSecond(final String text)
+    {
+        return Instant.parse(text).getEpochSecond();
+    }
+}
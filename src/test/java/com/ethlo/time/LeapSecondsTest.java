@@ -0,0 +1,69 @@
+package com.ethlo.time;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.YearMonth;
+import java.util.Collections;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class LeapSecondsTest
+{
+    @AfterEach
+    void reset()
+    {
+        LeapSeconds.setHandler(null);
+    }
+
+    @Test
+    void testDefaultHandler()
+    {
+        assertThat(LeapSeconds.getHandler().getLastKnownLeapSecond()).isEqualTo(YearMonth.of(2016, 12));
+    }
+
+    @Test
+    void testCustomHandler()
+    {
+        LeapSeconds.setHandler(LeapSeconds.of(Collections.singletonList(YearMonth.of(2040, 6))));
+        final LeapSecondException exc = assertThrows(LeapSecondException.class, () -> ITU.parseDateTime("2040-06-30T23:59:60Z"));
+        assertThat(exc.isVerifiedValidLeapYearMonth()).isTrue();
+
+        // No longer a known leap second, and before the last known one
+        final DateTimeException invalid = assertThrows(DateTimeException.class, () -> ITU.parseDateTime("2016-12-31T23:59:60Z"));
+        assertThat(invalid.getClass()).isEqualTo(DateTimeException.class);
+    }
+
+    @Test
+    void testCustomHandlerFromCsv()
+    {
+        final String csv = "2016-12\n2041-12\n";
+        LeapSeconds.setHandler(LeapSeconds.fromCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))));
+        assertThat(LeapSeconds.getHandler().isValidLeapSecondDate(2041, 12)).isTrue();
+        assertThat(LeapSeconds.getHandler().getLastKnownLeapSecond()).isEqualTo(YearMonth.of(2041, 12));
+    }
+}
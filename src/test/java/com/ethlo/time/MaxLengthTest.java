@@ -0,0 +1,116 @@
+package com.ethlo.time;
+
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.text.ParsePosition;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.ethlo.time.internal.fixed.ITUParser;
+import com.ethlo.time.token.ConfigurableDateTimeParser;
+
+class MaxLengthTest
+{
+    private static String repeat(char c, int count)
+    {
+        final char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+
+    @Test
+    void testDefault()
+    {
+        assertThat(ParseConfig.DEFAULT.getMaxLength()).isEqualTo(ParseConfig.DEFAULT_MAX_LENGTH);
+        assertThat(ParseConfig.DEFAULT.withMaxLength(40).withDateTimeSeparators('T').getMaxLength()).isEqualTo(40);
+        assertThrows(IllegalArgumentException.class, () -> ParseConfig.DEFAULT.withMaxLength(0));
+    }
+
+    @Test
+    void testLongInputRejectedUpFront()
+    {
+        final String input = "2017-12-21T12:20:45." + repeat('1', 1_000_000) + "Z";
+        final DateTimeParseException exc = assertThrows(DateTimeParseException.class, () -> ITU.parseDateTime(input));
+        assertThat(exc.getErrorIndex()).isEqualTo(64);
+        assertThat(exc.getParsedString()).hasSize(64);
+        assertThat(exc.getMessage()).startsWith("Input exceeds the maximum length of 64: 2017-12-21T12:20:45.111");
+
+        assertThrows(DateTimeParseException.class, () -> ITU.parseLenient(input));
+        assertThrows(DateTimeParseException.class, () -> ITU.parseLenient(input.toCharArray(), 0, input.length()));
+        assertThrows(DateTimeParseException.class, () -> ITU.parseDateTime(input.toCharArray(), 0, input.length()));
+    }
+
+    @Test
+    void testLongInputRejectedFromOffset()
+    {
+        final String input = "xx2017-12-21T12:20:45." + repeat('1', 1_000_000) + "Z";
+        final DateTimeParseException exc = assertThrows(DateTimeParseException.class, () -> ITUParser.parseLenient(input, ParseConfig.DEFAULT, 2));
+        assertThat(exc.getErrorIndex()).isEqualTo(66);
+        assertThat(exc.getParsedString()).hasSize(64);
+        assertThat(exc.getMessage()).startsWith("Input exceeds the maximum length of 64: 2017-12-21T12:20:45.111");
+    }
+
+    @Test
+    void testConfiguredMaxLength()
+    {
+        final ParseConfig config = ParseConfig.DEFAULT.withMaxLength(20);
+        assertThat(ITU.parseLenient("2017-12-21T12:20:45Z", config).toString()).isEqualTo("2017-12-21T12:20:45Z");
+        final DateTimeParseException exc = assertThrows(DateTimeParseException.class, () -> ITU.parseLenient("2017-12-21T12:20:45.1Z", config));
+        assertThat(exc.getErrorIndex()).isEqualTo(20);
+    }
+
+    @Test
+    void testFractionsNotReadBeyondMaxLengthFromOffset()
+    {
+        final String input = "x 2017-12-21T12:20:45." + repeat('1', 1_000_000) + "Z";
+        final ParsePosition position = new ParsePosition(2);
+        final DateTimeParseException exc = assertThrows(DateTimeParseException.class, () -> ITU.parseLenient(input, ParseConfig.DEFAULT, position));
+        assertThat(exc.getMessage()).startsWith("Maximum supported number of fraction digits in second is 9, got 44");
+    }
+
+    @Test
+    void testLongDurationRejectedUpFront()
+    {
+        final String input = "P" + repeat('0', 1_000_000) + "1D";
+        final DateTimeParseException exc = assertThrows(DateTimeParseException.class, () -> ITU.parseDuration(input));
+        assertThat(exc.getErrorIndex()).isEqualTo(64);
+        assertThat(exc.getMessage()).startsWith("Duration exceeds the maximum length of 64: P000");
+    }
+
+    @Test
+    void testFractionsTokenReadsBoundedNumberOfDigits()
+    {
+        final DateTimeParser parser = ConfigurableDateTimeParser.of(
+                DateTimeTokens.digits(Field.YEAR, 4),
+                DateTimeTokens.separators('.'),
+                DateTimeTokens.fractions()
+        );
+        assertThat(parser.parse("2017.123456789").getNano()).isEqualTo(123456789);
+        final DateTimeParseException exc = assertThrows(DateTimeParseException.class, () -> parser.parse("2017." + repeat('1', 1_000_000)));
+        assertThat(exc.getErrorIndex()).isEqualTo(14);
+    }
+}
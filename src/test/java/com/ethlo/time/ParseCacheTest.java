@@ -0,0 +1,129 @@
+package com.ethlo.time;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class ParseCacheTest
+{
+    @Test
+    void testHitOnRepeatedValue()
+    {
+        final ParseCache cache = ParseCache.ofSize(16);
+        final OffsetDateTime first = cache.parseDateTime("2017-12-21T12:20:45.987Z");
+        final OffsetDateTime second = cache.parseDateTime(new String("2017-12-21T12:20:45.987Z".toCharArray()));
+        assertThat(second).isEqualTo(ITU.parseDateTime("2017-12-21T12:20:45.987Z"));
+        assertThat(second).isSameAs(first);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testLenient()
+    {
+        final ParseCache cache = ParseCache.ofSize(16);
+        final DateTime first = cache.parseLenient("2017-12-21T12:20");
+        assertThat(first).isEqualTo(ITU.parseLenient("2017-12-21T12:20"));
+        assertThat(cache.parseLenient("2017-12-21T12:20")).isSameAs(first);
+        assertThat(cache.parseDateTime("2017-12-21T12:20:00Z")).isEqualTo(ITU.parseDateTime("2017-12-21T12:20:00Z"));
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testCollisionsReturnCorrectValue()
+    {
+        final ParseCache cache = ParseCache.ofSize(1);
+        assertThat(cache.getSize()).isEqualTo(1);
+        for (int i = 0; i < 3; i++)
+        {
+            assertThat(cache.parseDateTime("2017-12-21T12:20:45Z")).isEqualTo(ITU.parseDateTime("2017-12-21T12:20:45Z"));
+            assertThat(cache.parseDateTime("2017-12-21T12:20:46Z")).isEqualTo(ITU.parseDateTime("2017-12-21T12:20:46Z"));
+        }
+        assertThat(cache.getHitCount()).isEqualTo(0);
+        assertThat(cache.getMissCount()).isEqualTo(6);
+    }
+
+    @Test
+    void testInvalidNotCached()
+    {
+        final ParseCache cache = ParseCache.ofSize(16);
+        final DateTimeParseException expected = assertThrows(DateTimeParseException.class, () -> ITU.parseDateTime("2017-12-21T12:20:45"));
+        for (int i = 0; i < 2; i++)
+        {
+            final DateTimeParseException actual = assertThrows(DateTimeParseException.class, () -> cache.parseDateTime("2017-12-21T12:20:45"));
+            assertThat(actual.getMessage()).isEqualTo(expected.getMessage());
+        }
+        assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testSize()
+    {
+        assertThat(ParseCache.ofSize(1000).getSize()).isEqualTo(1024);
+        assertThat(ParseCache.ofSize(1024).getSize()).isEqualTo(1024);
+        assertThrows(IllegalArgumentException.class, () -> ParseCache.ofSize(0));
+        assertThrows(IllegalArgumentException.class, () -> ParseCache.ofSize(ParseCache.MAX_SIZE + 1));
+    }
+
+    @Test
+    void testConcurrentAccess() throws Exception
+    {
+        final ParseCache cache = ParseCache.ofSize(8);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++)
+            {
+                futures.add(executor.submit(() ->
+                {
+                    for (int i = 0; i < 10_000; i++)
+                    {
+                        final String text = String.format("2017-12-21T12:20:%02dZ", i % 60);
+                        assertThat(cache.parseDateTime(text)).isEqualTo(ITU.parseDateTime(text));
+                    }
+                }));
+            }
+            for (Future<?> future : futures)
+            {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        assertThat(cache.getHitCount() + cache.getMissCount()).isEqualTo(40_000);
+    }
+}
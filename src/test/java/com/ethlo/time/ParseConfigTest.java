@@ -38,6 +38,8 @@ class ParseConfigTest
     void setAllowTrailingJunk()
     {
         assertThat(ParseConfig.DEFAULT.withFailOnTrailingJunk(true).isFailOnTrailingJunk()).isTrue();
+        assertThat(ParseConfig.DEFAULT.withFailOnTrailingJunk(false).isFailOnTrailingJunk()).isFalse();
+        assertThat(ParseConfig.DEFAULT.withFailOnTrailingJunk(false).withDateTimeSeparators('T').isFailOnTrailingJunk()).isFalse();
     }
 
     @Test
@@ -0,0 +1,103 @@
+package com.ethlo.time;
+
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.format.DateTimeParseException;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ParseExceptionsTest
+{
+    @AfterEach
+    void cleanup()
+    {
+        ParseExceptions.setLightweight(false);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2017-12-21T12:2", "2017-12-21X12:20:45Z", "2017-12-21T12:20:45-00:00", "2017-12-21T12:20:4", "2017-12-21T12:20:45.Z", "2017-12-21T12:20:45+05"})
+    void testSameAsDefaultDateTime(String input)
+    {
+        assertSameAsDefault(input, ITU::parseDateTime);
+        assertSameAsDefault(input, ITU::parseLenient);
+        assertSameAsDefault(input, s -> ITU.parseLenient(s, ParseConfig.DEFAULT.withDateTimeSeparators('T', '|')));
+    }
+
+    @Test
+    void testSameAsDefaultNoOffset()
+    {
+        // Valid for lenient parsing, but not as a date-time with offset
+        assertSameAsDefault("2017-12-21T12:20:45", ITU::parseDateTime);
+        assertSameAsDefault("2017-12-21T12:20:45.123", ITU::parseDateTime);
+
+        ParseExceptions.setLightweight(true);
+        assertThat(assertThrows(DateTimeParseException.class, () -> ITU.parseDateTime("2017-12-21T12:20:45")).getStackTrace()).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "P", "PT1X", "P1.5D", "P2", "PT1.5", "P1DT", "PTD", "PT1S1M"})
+    void testSameAsDefaultDuration(String input)
+    {
+        assertSameAsDefault(input, ITU::parseDuration);
+    }
+
+    @Test
+    void testNoStackTrace()
+    {
+        ParseExceptions.setLightweight(true);
+        final DateTimeParseException exc = assertThrows(DateTimeParseException.class, () -> ITU.parseDateTime("2017-12-21T12:20:45-00:00"));
+        assertThat(exc.getStackTrace()).isEmpty();
+        assertThat(exc.getErrorIndex()).isEqualTo(19);
+        assertThat(exc.getParsedString()).isEqualTo("2017-12-21T12:20:45-00:00");
+        assertThat(exc.getMessage()).isEqualTo("Unknown 'Local Offset Convention' date-time not allowed");
+    }
+
+    @Test
+    void testMessageNotAffectedByLaterChangesToInput()
+    {
+        ParseExceptions.setLightweight(true);
+        final StringBuilder input = new StringBuilder("2017-12-21T12:20:45+05");
+        final DateTimeParseException exc = assertThrows(DateTimeParseException.class, () -> ITU.parseDateTime(input));
+        input.setLength(0);
+        assertThat(exc.getMessage()).isEqualTo("Invalid timezone offset: 2017-12-21T12:20:45+05");
+    }
+
+    private void assertSameAsDefault(String input, Consumer<String> parser)
+    {
+        ParseExceptions.setLightweight(false);
+        final DateTimeParseException expected = assertThrows(DateTimeParseException.class, () -> parser.accept(input));
+        assertThat(expected.getStackTrace()).isNotEmpty();
+
+        ParseExceptions.setLightweight(true);
+        final DateTimeParseException actual = assertThrows(DateTimeParseException.class, () -> parser.accept(input));
+        assertThat(actual.getMessage()).isEqualTo(expected.getMessage());
+        assertThat(actual.getErrorIndex()).isEqualTo(expected.getErrorIndex());
+        assertThat(actual.getParsedString()).isEqualTo(expected.getParsedString());
+    }
+}
@@ -0,0 +1,92 @@
+package com.ethlo.time;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.DateTimeException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ParseMetricsTest
+{
+    @BeforeEach
+    void setup()
+    {
+        ParseMetrics.reset();
+        ParseMetrics.setEnabled(true);
+    }
+
+    @AfterEach
+    void cleanup()
+    {
+        ParseMetrics.setEnabled(false);
+        ParseMetrics.reset();
+    }
+
+    @Test
+    void testCountsSuccess()
+    {
+        ITU.parseDateTime("2017-12-21T12:20:45Z");
+        ITU.parseDateTime("2017-12-21T12:20:45.987+05:30");
+        ITU.parseLenient("2017-12-21");
+        ITU.parseLenient("2017-12-21T12:20:45+05:45");
+
+        final ParseMetrics.Snapshot snapshot = ParseMetrics.snapshot();
+        assertThat(snapshot.getSuccessCount()).isEqualTo(4L);
+        assertThat(snapshot.getErrorCount()).isEqualTo(0L);
+        assertThat(snapshot.getCount(Field.SECOND)).isEqualTo(2L);
+        assertThat(snapshot.getCount(Field.NANO)).isEqualTo(1L);
+        assertThat(snapshot.getCount(Field.DAY)).isEqualTo(1L);
+        assertThat(snapshot.getOffsetCount(TimezoneOffset.UTC)).isEqualTo(1L);
+        assertThat(snapshot.getOffsetCount(TimezoneOffset.ofHoursMinutes(5, 30))).isEqualTo(1L);
+        assertThat(snapshot.getOffsetCount(TimezoneOffset.ofHoursMinutes(5, 45))).isEqualTo(1L);
+        assertThat(snapshot.getNoOffsetCount()).isEqualTo(1L);
+        assertThat(snapshot.getLengthCount(20)).isEqualTo(1L);
+        assertThat(snapshot.getLengthCount(10)).isEqualTo(1L);
+    }
+
+    @Test
+    void testCountsErrors()
+    {
+        assertThrows(DateTimeException.class, () -> ITU.parseDateTime("2017-12-21T12:20"));
+        assertThrows(DateTimeException.class, () -> ITU.parseDateTime("2017-13-21T12:20:45Z"));
+        assertThrows(DateTimeException.class, () -> ITU.parseDateTime("2016-12-31T23:59:60Z"));
+
+        final ParseMetrics.Snapshot snapshot = ParseMetrics.snapshot();
+        assertThat(snapshot.getSuccessCount()).isEqualTo(0L);
+        assertThat(snapshot.getErrorCount()).isEqualTo(3L);
+        assertThat(snapshot.getCount(ParseMetrics.ErrorType.INVALID_FORMAT)).isEqualTo(1L);
+        assertThat(snapshot.getCount(ParseMetrics.ErrorType.INVALID_VALUE)).isEqualTo(1L);
+        assertThat(snapshot.getCount(ParseMetrics.ErrorType.LEAP_SECOND)).isEqualTo(1L);
+    }
+
+    @Test
+    void testDisabled()
+    {
+        ParseMetrics.setEnabled(false);
+        ITU.parseDateTime("2017-12-21T12:20:45Z");
+        assertThat(ParseMetrics.snapshot().getSuccessCount()).isEqualTo(0L);
+    }
+}
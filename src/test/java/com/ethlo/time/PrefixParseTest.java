@@ -0,0 +1,201 @@
+package com.ethlo.time;
+
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.CharBuffer;
+import java.text.ParsePosition;
+import java.time.format.DateTimeParseException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.ethlo.time.internal.fixed.ITUParser;
+
+class PrefixParseTest
+{
+    private static final ParseConfig PREFIX = ParseConfig.DEFAULT.withFailOnTrailingJunk(false);
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2024-01-01T00:00:00Z INFO started",
+            "2024-01-01T00:00:00.123Z INFO started",
+            "2024-01-01T00:00:00+05:30 INFO started",
+            "2024-01-01T00:00:00.123456789-01:00,next",
+            "2024-01-01T00:00:00 INFO started",
+            "2024-01-01T00:00:00.5 INFO started",
+            "2024-01-01T00:00 INFO started",
+            "2024-01-01T00:00Z INFO started"
+    })
+    void testPrefix(String line)
+    {
+        final String expected = line.split("[ ,]")[0];
+        final DateTime dateTime = ITU.parseLenient(line, PREFIX);
+        assertThat(dateTime.toString()).isEqualTo(expected);
+        assertThat(dateTime.getParseLength()).isEqualTo(expected.length());
+
+        final DateTime fromChars = ITU.parseLenient(line.toCharArray(), 0, line.length(), PREFIX);
+        assertThat(fromChars.toString()).isEqualTo(expected);
+        assertThat(fromChars.getParseLength()).isEqualTo(expected.length());
+    }
+
+    @Test
+    void testTrailingJunkRejectedByDefault()
+    {
+        final DateTimeParseException exc = assertThrows(DateTimeParseException.class, () -> ITU.parseDateTime("2024-01-01T00:00:00Z INFO"));
+        assertThat(exc.getErrorIndex()).isEqualTo(20);
+        assertThrows(DateTimeParseException.class, () -> ITU.parseLenient("2024-01-01T00:00:00+01:00 INFO"));
+        assertThrows(DateTimeParseException.class, () -> ITU.parseLenient("2024-01-01T00:00:00 INFO"));
+    }
+
+    @Test
+    void testLongLineNotRejected()
+    {
+        final StringBuilder line = new StringBuilder("2024-01-01T00:00:00Z ");
+        for (int i = 0; i < 1000; i++)
+        {
+            line.append("message ");
+        }
+        assertThat(ITU.parseLenient(line, PREFIX).getParseLength()).isEqualTo(20);
+    }
+
+    @Test
+    void testInvalidPrefix()
+    {
+        assertThrows(DateTimeParseException.class, () -> ITU.parseLenient("2024-01-01X00:00:00Z INFO", PREFIX));
+        assertThrows(DateTimeParseException.class, () -> ITU.parseLenient("2024-01-01T00:00:00+05 INFO", PREFIX));
+    }
+
+    @Test
+    void testParsePositionReadsPrefix()
+    {
+        final String text = "2024-01-01T00:00:00Z,2024-01-01T00:00:01Z";
+        final ParsePosition position = new ParsePosition(0);
+        assertThat(ITU.parseLenient(text, ParseConfig.DEFAULT, position).toString()).isEqualTo("2024-01-01T00:00:00Z");
+        assertThat(position.getIndex()).isEqualTo(20);
+        position.setIndex(21);
+        assertThat(ITU.parseLenient(text, ParseConfig.DEFAULT, position).toString()).isEqualTo("2024-01-01T00:00:01Z");
+        assertThat(position.getIndex()).isEqualTo(text.length());
+    }
+
+    @Test
+    void testConfigurableParserReportsLength()
+    {
+        final DateTimeParser parser = DateTimeParsers.rfc3339();
+        final DateTime dateTime = parser.parse(CharBuffer.wrap("2024-01-01T00:00:00.25Z INFO"), new ParsePosition(0));
+        assertThat(dateTime.getParseLength()).isEqualTo(23);
+    }
+
+    @Test
+    void testPrefixFromOffsetCopiesOnlyMaxLength()
+    {
+        final StringBuilder buffer = new StringBuilder("INFO 2024-01-01T00:00:00 started");
+        for (int i = 0; i < 1000; i++)
+        {
+            buffer.append(" message");
+        }
+        final CharSequence guarded = new BoundedCopySequence(buffer, ParseConfig.DEFAULT_MAX_LENGTH);
+        final ParsePosition position = new ParsePosition(5);
+        assertThat(ITUParser.parseLenient(guarded, ParseConfig.DEFAULT, position).toString()).isEqualTo("2024-01-01T00:00:00");
+        assertThat(position.getIndex()).isEqualTo(24);
+    }
+
+    @Test
+    void testPrefixFromOffsetErrorIndex()
+    {
+        final String invalid = "2024-01-01T00:00:0x started";
+        final DateTimeParseException expected = assertThrows(DateTimeParseException.class, () -> ITU.parseLenient(invalid, PREFIX));
+        final ParsePosition position = new ParsePosition(5);
+        final DateTimeParseException actual = assertThrows(DateTimeParseException.class, () -> ITUParser.parseLenient(new BoundedCopySequence(new StringBuilder("INFO " + invalid), 64), ParseConfig.DEFAULT, position));
+        assertThat(actual.getErrorIndex()).isEqualTo(expected.getErrorIndex() + 5);
+        assertThat(position.getErrorIndex()).isEqualTo(expected.getErrorIndex() + 5);
+        assertThat(actual.getMessage()).isEqualTo(expected.getMessage());
+    }
+
+    @Test
+    void testFullFromOffsetCopiesOnlyFromOffset()
+    {
+        final StringBuilder buffer = new StringBuilder();
+        for (int i = 0; i < 1000; i++)
+        {
+            buffer.append("message ");
+        }
+        final int offset = buffer.length();
+        buffer.append("2024-01-01T00:00:00");
+        final CharSequence guarded = new BoundedCopySequence(buffer, ParseConfig.DEFAULT_MAX_LENGTH);
+        assertThat(ITUParser.parseLenient(guarded, ParseConfig.DEFAULT, offset).toString()).isEqualTo("2024-01-01T00:00:00");
+
+        final String invalid = "2024-01-01T00:00:0xZ";
+        buffer.setLength(offset);
+        buffer.append(invalid);
+        final DateTimeParseException expected = assertThrows(DateTimeParseException.class, () -> ITU.parseDateTime(invalid));
+        final DateTimeParseException actual = assertThrows(DateTimeParseException.class, () -> ITUParser.parseDateTime(guarded, offset));
+        assertThat(actual.getErrorIndex()).isEqualTo(expected.getErrorIndex() + offset);
+        assertThat(actual.getMessage()).isEqualTo(expected.getMessage());
+    }
+
+    /**
+     * Fails if more than a limited number of characters are copied
+     */
+    private static class BoundedCopySequence implements CharSequence
+    {
+        private final CharSequence delegate;
+        private final int maxCopy;
+
+        private BoundedCopySequence(final CharSequence delegate, final int maxCopy)
+        {
+            this.delegate = delegate;
+            this.maxCopy = maxCopy;
+        }
+
+        @Override
+        public int length()
+        {
+            return delegate.length();
+        }
+
+        @Override
+        public char charAt(final int index)
+        {
+            return delegate.charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end)
+        {
+            if (end - start > maxCopy)
+            {
+                throw new AssertionError("Copied " + (end - start) + " characters");
+            }
+            return delegate.subSequence(start, end);
+        }
+
+        @Override
+        public String toString()
+        {
+            return subSequence(0, length()).toString();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.ethlo.time;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.junit.jupiter.api.Test;
+
+class SortKeysTest
+{
+    @Test
+    void testRoundTrip()
+    {
+        final String input = "2017-02-21T15:27:39.987654321+01:00";
+        final byte[] key = SortKeys.of(input);
+        assertThat(key.length).isEqualTo(SortKeys.LENGTH);
+        assertThat(SortKeys.toInstant(key, 0)).isEqualTo(OffsetDateTime.parse(input).toInstant());
+        assertThat(SortKeys.getNano(key, 0)).isEqualTo(987654321);
+    }
+
+    @Test
+    void testBeforeEpoch()
+    {
+        final byte[] key = SortKeys.of("0001-01-01T00:00:00.5Z");
+        assertThat(SortKeys.toInstant(key, 0)).isEqualTo(Instant.parse("0001-01-01T00:00:00.5Z"));
+    }
+
+    @Test
+    void testSortsByInstantAcrossOffsets()
+    {
+        final String[] inputs = {
+                "2020-01-01T02:00:00+03:00",
+                "1969-12-31T23:59:59.999999999Z",
+                "2020-01-01T00:00:00Z",
+                "2019-12-31T22:00:00.000001-01:00",
+                "1970-01-01T00:00:00Z",
+                "9999-12-31T23:59:59Z",
+                "2019-12-31T21:30:00-02:30"
+        };
+
+        final byte[][] keys = Arrays.stream(inputs).map(SortKeys::of).toArray(byte[][]::new);
+        Arrays.sort(keys, (a, b) -> SortKeys.compare(a, 0, b, 0));
+
+        final Instant[] sortedByKey = Arrays.stream(keys).map(k -> SortKeys.toInstant(k, 0)).toArray(Instant[]::new);
+        final Instant[] expected = Arrays.stream(inputs).map(s -> OffsetDateTime.parse(s).toInstant()).sorted(Comparator.naturalOrder()).toArray(Instant[]::new);
+        assertThat(sortedByKey).isEqualTo(expected);
+    }
+
+    @Test
+    void testFromBytes()
+    {
+        final byte[] buffer = "id=1,ts=2021-06-30T12:34:56.123Z,x".getBytes(StandardCharsets.US_ASCII);
+        final byte[] target = new byte[SortKeys.LENGTH + 2];
+        SortKeys.write(buffer, 8, 24, target, 2);
+        assertThat(SortKeys.compare(target, 2, SortKeys.of("2021-06-30T12:34:56.123Z"), 0)).isZero();
+        assertThat(SortKeys.getEpochSecond(target, 2)).isEqualTo(Instant.parse("2021-06-30T12:34:56Z").getEpochSecond());
+    }
+
+    @Test
+    void testInvalidInputIsRejectedLikeParseDateTime()
+    {
+        assertThrows(DateTimeParseException.class, () -> SortKeys.of("2017-02-21T15:27:39"));
+        assertThrows(DateTimeException.class, () -> SortKeys.of("2017-02-30T15:27:39Z"));
+        assertThrows(LeapSecondException.class, () -> SortKeys.of("1990-12-31T23:59:60Z"));
+        final byte[] bytes = "2017-02-21T15:27:39.1234567891Z".getBytes(StandardCharsets.US_ASCII);
+        final DateTimeParseException exc = assertThrows(DateTimeParseException.class, () -> SortKeys.of(bytes, 0, bytes.length));
+        assertThat(exc).hasMessageContaining("Maximum supported number of fraction digits in second is 9");
+    }
+}
@@ -0,0 +1,159 @@
+package com.ethlo.time;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SortedLogFileTest
+{
+    private static final Instant FIRST = Instant.parse("2024-03-01T00:00:00Z");
+    private static final int LINES = 1000;
+
+    private Path file;
+    private String content;
+
+    @BeforeEach
+    void setup() throws IOException
+    {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < LINES; i++)
+        {
+            final OffsetDateTime timestamp = OffsetDateTime.ofInstant(FIRST.plusSeconds(i * 10L), i % 3 == 0 ? ZoneOffset.ofHours(2) : ZoneOffset.UTC);
+            sb.append(ITU.format(timestamp, 3));
+            sb.append(" INFO line ").append(i).append('\n');
+            if (i % 7 == 0)
+            {
+                sb.append("\tat com.example.Foo.bar(Foo.java:").append(i).append(")\n");
+            }
+        }
+        content = sb.toString();
+        file = Files.createTempFile("sorted-log", ".log");
+        Files.write(file, content.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @AfterEach
+    void cleanup() throws IOException
+    {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    void testFindRange() throws IOException
+    {
+        try (SortedLogFile log = SortedLogFile.open(file))
+        {
+            final SortedLogFile.Range range = log.find("2024-03-01T00:01:40Z", "2024-03-01T00:02:00Z");
+            final String lines = content.substring((int) range.getStart(), (int) range.getEnd());
+            assertThat(lines).isEqualTo("2024-03-01T00:01:40.000Z INFO line 10\n"
+                    + "2024-03-01T00:01:50.000Z INFO line 11\n");
+        }
+    }
+
+    @Test
+    void testContinuationLinesBelongToPrecedingLine() throws IOException
+    {
+        try (SortedLogFile log = SortedLogFile.open(file))
+        {
+            final SortedLogFile.Range range = log.find("2024-03-01T00:01:10+00:00", "2024-03-01T02:01:20+02:00");
+            final String lines = content.substring((int) range.getStart(), (int) range.getEnd());
+            assertThat(lines).isEqualTo("2024-03-01T00:01:10.000Z INFO line 7\n"
+                    + "\tat com.example.Foo.bar(Foo.java:7)\n");
+        }
+    }
+
+    @Test
+    void testMatchesLinearScan() throws IOException
+    {
+        try (SortedLogFile log = SortedLogFile.open(file))
+        {
+            for (int i = -5; i < LINES * 10 + 5; i += 3)
+            {
+                final Instant target = FIRST.plusSeconds(i);
+                assertThat(log.offsetOf(target)).isEqualTo(linearOffsetOf(target));
+            }
+        }
+    }
+
+    @Test
+    void testMatchesLinearScanWithLongContinuationRuns() throws IOException
+    {
+        final StringBuilder sb = new StringBuilder("\tcontinuation before the first line\n");
+        for (int i = 0; i < 100; i++)
+        {
+            sb.append(ITU.formatUtcMilli(OffsetDateTime.ofInstant(FIRST.plusSeconds(i * 10L), ZoneOffset.UTC))).append(" ERROR line ").append(i).append('\n');
+            if (i == 0 || i == 50 || i == 51 || i == 99)
+            {
+                for (int j = 0; j < 5000; j++)
+                {
+                    sb.append("\tat com.example.Foo.bar(Foo.java:").append(j).append(")\n");
+                }
+            }
+        }
+        content = sb.toString();
+        Files.write(file, content.getBytes(StandardCharsets.US_ASCII));
+
+        try (SortedLogFile log = SortedLogFile.open(file))
+        {
+            for (int i = -5; i < 1005; i += 3)
+            {
+                final Instant target = FIRST.plusSeconds(i);
+                assertThat(log.offsetOf(target)).isEqualTo(linearOffsetOf(target));
+            }
+        }
+    }
+
+    @Test
+    void testOutsideOfFile() throws IOException
+    {
+        try (SortedLogFile log = SortedLogFile.open(file))
+        {
+            assertThat(log.find("2020-01-01T00:00:00Z", "2021-01-01T00:00:00Z").getEnd()).isEqualTo(0L);
+            assertThat(log.find("2030-01-01T00:00:00Z", "2031-01-01T00:00:00Z").getStart()).isEqualTo(log.size());
+            assertThat(log.find("2024-03-01T00:02:00Z", "2024-03-01T00:01:00Z").isEmpty()).isTrue();
+        }
+    }
+
+    private long linearOffsetOf(final Instant target)
+    {
+        int offset = 0;
+        for (String line : content.split("\n"))
+        {
+            if (Character.isDigit(line.charAt(0)) && !ITU.parseDateTime(line.substring(0, line.indexOf(' '))).toInstant().isBefore(target))
+            {
+                return offset;
+            }
+            offset += line.length() + 1;
+        }
+        return content.length();
+    }
+}
@@ -21,9 +21,15 @@ package com.ethlo.time;
  */
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.temporal.ChronoField;
+import java.time.temporal.IsoFields;
 import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalField;
+import java.time.temporal.UnsupportedTemporalTypeException;
 
 import org.junit.jupiter.api.Test;
 
@@ -133,4 +139,45 @@ public class TemporalAccessorTest
         assertThat(parsed.getLong(ChronoField.NANO_OF_SECOND)).isEqualTo(987654321);
     }
 
+    @Test
+    void testDerivedFieldsSameAsJavaTime()
+    {
+        final TemporalField[] fields = {ChronoField.DAY_OF_WEEK, ChronoField.DAY_OF_YEAR, ChronoField.EPOCH_DAY, ChronoField.PROLEPTIC_MONTH,
+                ChronoField.ALIGNED_WEEK_OF_MONTH, ChronoField.ALIGNED_WEEK_OF_YEAR, ChronoField.ALIGNED_DAY_OF_WEEK_IN_MONTH,
+                ChronoField.ALIGNED_DAY_OF_WEEK_IN_YEAR, ChronoField.MINUTE_OF_DAY, ChronoField.SECOND_OF_DAY, IsoFields.WEEK_OF_WEEK_BASED_YEAR,
+                IsoFields.WEEK_BASED_YEAR, IsoFields.QUARTER_OF_YEAR, IsoFields.DAY_OF_QUARTER};
+        // Covers the start and end of years with 52 and 53 ISO weeks, leap years, and dates before 1970
+        LocalDateTime dateTime = LocalDateTime.of(1899, 12, 20, 13, 47, 12);
+        while (dateTime.getYear() < 2030)
+        {
+            final DateTime parsed = DateTime.of(dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(), dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond(), null);
+            for (TemporalField field : fields)
+            {
+                assertThat(parsed.isSupported(field)).isTrue();
+                assertThat(parsed.getLong(field)).as("%s of %s", field, dateTime).isEqualTo(dateTime.getLong(field));
+            }
+            dateTime = dateTime.plusDays(dateTime.getDayOfYear() < 10 || dateTime.getDayOfYear() > 355 ? 1 : 17).plusMinutes(7);
+        }
+    }
+
+    @Test
+    void testDerivedFieldsNotSupportedWithoutDay()
+    {
+        final TemporalAccessor parsed = ITU.parseLenient("2017-01");
+        assertThat(parsed.isSupported(ChronoField.PROLEPTIC_MONTH)).isTrue();
+        assertThat(parsed.getLong(ChronoField.PROLEPTIC_MONTH)).isEqualTo(2017 * 12L);
+        assertThat(parsed.isSupported(ChronoField.DAY_OF_WEEK)).isFalse();
+        assertThat(parsed.isSupported(ChronoField.EPOCH_DAY)).isFalse();
+        assertThat(parsed.isSupported(IsoFields.WEEK_OF_WEEK_BASED_YEAR)).isFalse();
+        assertThat(parsed.isSupported(ChronoField.OFFSET_SECONDS)).isFalse();
+        assertThrows(UnsupportedTemporalTypeException.class, () -> parsed.getLong(ChronoField.DAY_OF_WEEK));
+        assertThrows(UnsupportedTemporalTypeException.class, () -> parsed.getLong(IsoFields.WEEK_BASED_YEAR));
+        assertThrows(UnsupportedTemporalTypeException.class, () -> parsed.getLong(ChronoField.OFFSET_SECONDS));
+    }
+
+    @Test
+    void testLocalDateFromDateTime()
+    {
+        assertThat(LocalDate.from(ITU.parseLenient("2017-01-27T15:34:49Z"))).isEqualTo(LocalDate.of(2017, 1, 27));
+    }
 }
@@ -0,0 +1,120 @@
+package com.ethlo.time;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class TimeBucketsTest
+{
+    private static final Duration[] WIDTHS = {Duration.ofMinutes(1), Duration.ofMinutes(5), Duration.ofHours(1), Duration.ofDays(1), Duration.ofMillis(250), Duration.of(7, 500_000_000)};
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2017-02-21T15:27:39.987654321+01:00", "1969-12-31T23:59:59.999Z", "1970-01-01T00:00:00Z", "1800-01-01T00:00:00.5Z", "2024-02-29T23:59:59-08:00"})
+    void testSameAsJavaTime(String input)
+    {
+        final Instant instant = OffsetDateTime.parse(input).toInstant();
+        for (Duration width : WIDTHS)
+        {
+            for (Duration alignment : new Duration[]{Duration.ZERO, Duration.ofHours(6), Duration.ofMillis(100)})
+            {
+                final TimeBuckets buckets = TimeBuckets.of(width, alignment);
+                final long index = buckets.index(input);
+                final Instant start = Instant.ofEpochSecond(buckets.getStartEpochSecond(index), buckets.getStartNano(index));
+                final Instant end = Instant.ofEpochSecond(buckets.getStartEpochSecond(index + 1), buckets.getStartNano(index + 1));
+                assertThat(start.isAfter(instant)).as("%s %s", width, alignment).isFalse();
+                assertThat(end.isAfter(instant)).as("%s %s", width, alignment).isTrue();
+                assertThat(java.time.Duration.between(start, end)).isEqualTo(java.time.Duration.ofSeconds(width.getSeconds(), width.getNanos()));
+            }
+        }
+    }
+
+    @Test
+    void testIndex()
+    {
+        final TimeBuckets buckets = TimeBuckets.of(Duration.ofMinutes(5));
+        assertThat(buckets.index("1970-01-01T00:04:59.999Z")).isEqualTo(0);
+        assertThat(buckets.index("1970-01-01T00:05:00Z")).isEqualTo(1);
+        assertThat(buckets.index("1970-01-01T01:05:00+01:00")).isEqualTo(1);
+        assertThat(buckets.index("1969-12-31T23:59:59.999Z")).isEqualTo(-1);
+        assertThat(buckets.getStartEpochSecond(buckets.index("2017-02-21T15:27:39Z"))).isEqualTo(Instant.parse("2017-02-21T15:25:00Z").getEpochSecond());
+    }
+
+    @Test
+    void testAlignment()
+    {
+        final TimeBuckets buckets = TimeBuckets.of(Duration.ofDays(1), Duration.ofHours(6));
+        assertThat(buckets.index("1970-01-01T05:59:59Z")).isEqualTo(-1);
+        assertThat(buckets.index("1970-01-01T06:00:00Z")).isEqualTo(0);
+        assertThat(buckets.index("1970-01-02T05:59:59Z")).isEqualTo(0);
+        assertThat(buckets.getStartEpochSecond(1)).isEqualTo(Instant.parse("1970-01-02T06:00:00Z").getEpochSecond());
+    }
+
+    @Test
+    void testBytes()
+    {
+        final TimeBuckets buckets = TimeBuckets.of(Duration.ofHours(1));
+        final byte[] data = "xx2017-02-21T15:27:39Zyy".getBytes(StandardCharsets.US_ASCII);
+        assertThat(buckets.index(data, 2, 20)).isEqualTo(buckets.index("2017-02-21T15:27:39Z"));
+    }
+
+    @Test
+    void testBatch()
+    {
+        final TimeBuckets buckets = TimeBuckets.of(Duration.ofMinutes(1));
+        final String[] texts = {"2017-02-21T15:27:39Z", "2017-02-21T15:28:00Z", "2017-02-21T16:27:00.5+01:00", "2017-02-21T15:30:00Z"};
+        final long[] indexes = new long[texts.length];
+        buckets.indexes(texts, indexes);
+        for (int i = 0; i < texts.length; i++)
+        {
+            assertThat(indexes[i]).isEqualTo(buckets.index(texts[i]));
+        }
+
+        final int[] slots = new int[texts.length];
+        buckets.indexes(texts, indexes[0], slots);
+        assertThat(slots).containsExactly(0, 1, 0, 3);
+    }
+
+    @Test
+    void testDistantDates()
+    {
+        assertThat(TimeBuckets.of(Duration.ofDays(1)).index("0001-01-01T00:00:00.5Z")).isEqualTo(-719162);
+        assertThat(TimeBuckets.of(Duration.ofDays(1)).getStartNano(-719162)).isEqualTo(0);
+        assertThrows(ArithmeticException.class, () -> TimeBuckets.of(Duration.ofMillis(1)).index("0001-01-01T00:00:00.5Z"));
+    }
+
+    @Test
+    void testInvalid()
+    {
+        assertThrows(IllegalArgumentException.class, () -> TimeBuckets.of(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> TimeBuckets.of(Duration.ofSeconds(-1)));
+        assertThrows(DateTimeParseException.class, () -> TimeBuckets.of(Duration.ofMinutes(1)).index("2017-02-21T15:27:39"));
+    }
+}
@@ -0,0 +1,160 @@
+package com.ethlo.time;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TimestampFieldReaderTest
+{
+    private static final String NDJSON = "{\"id\":1,\"nested\":{\"ts\":\"not a date\"},\"ts\":\"2017-12-21T12:20:45.987Z\"}\n"
+            + "\n"
+            + "{\"id\":2, \"note\":\"\\\"ts\\\":\", \"ts\" : \"2017-12-21T13:20:46+01:00\"}\r\n"
+            + "{\"id\":3}\n"
+            + "{\"ts\":\"2017-12-21T12:20:47Z\",\"id\":4}";
+
+    private static final String CSV = "id;created;name\n"
+            + "1;2017-12-21T12:20:45.987Z;first\n"
+            + "2;\"2017-12-21T12:20:46Z\";\"sec;ond\"\n"
+            + "3;;third\n"
+            + "4\n"
+            + "5;2017-12-21T12:20:47Z";
+
+    @Test
+    void testJsonField() throws IOException
+    {
+        final List<String> found = new ArrayList<>();
+        final long count = TimestampFieldReader.jsonField("ts").read(stream(NDJSON), collect(found));
+        assertThat(count).isEqualTo(3L);
+        assertThat(found).containsExactly("0=2017-12-21T12:20:45.987Z", "1=2017-12-21T12:20:46Z", "3=2017-12-21T12:20:47Z");
+    }
+
+    @Test
+    void testJsonFieldWithSmallBuffer() throws IOException
+    {
+        final List<String> found = new ArrayList<>();
+        final long count = TimestampFieldReader.jsonField("ts").withBufferSize(7).read(Channels.newChannel(stream(NDJSON)), collect(found));
+        assertThat(count).isEqualTo(3L);
+        assertThat(found).containsExactly("0=2017-12-21T12:20:45.987Z", "1=2017-12-21T12:20:46Z", "3=2017-12-21T12:20:47Z");
+    }
+
+    @Test
+    void testCsvColumnIndex() throws IOException
+    {
+        final List<String> found = new ArrayList<>();
+        final long count = TimestampFieldReader.csvColumn(1, ';').read(stream(CSV.substring(CSV.indexOf('\n') + 1)), collect(found));
+        assertThat(count).isEqualTo(3L);
+        assertThat(found).containsExactly("0=2017-12-21T12:20:45.987Z", "1=2017-12-21T12:20:46Z", "4=2017-12-21T12:20:47Z");
+    }
+
+    @Test
+    void testCsvColumnName() throws IOException
+    {
+        final List<String> found = new ArrayList<>();
+        final long count = TimestampFieldReader.csvColumn("created", ';').withBufferSize(16).read(stream(CSV), collect(found));
+        assertThat(count).isEqualTo(3L);
+        assertThat(found).containsExactly("0=2017-12-21T12:20:45.987Z", "1=2017-12-21T12:20:46Z", "4=2017-12-21T12:20:47Z");
+    }
+
+    @Test
+    void testUnknownCsvColumnName()
+    {
+        assertThrows(IllegalArgumentException.class, () -> TimestampFieldReader.csvColumn("updated", ';').read(stream(CSV), (record, epochSecond, nano) -> {
+        }));
+    }
+
+    @Test
+    void testInvalidValue()
+    {
+        assertThrows(DateTimeException.class, () -> TimestampFieldReader.jsonField("ts").read(stream("{\"ts\":\"2017-13-21T12:20:45Z\"}"), (record, epochSecond, nano) -> {
+        }));
+    }
+
+    @Test
+    void testInvalidValueReportsRecord()
+    {
+        final DateTimeParseException exc = assertThrows(DateTimeParseException.class, () -> TimestampFieldReader.csvColumn("created", ';').read(stream(CSV + "\n6;2017-12-21T12:20:4xZ"), (record, epochSecond, nano) -> {
+        }));
+        assertThat(exc.getMessage()).startsWith("Invalid date-time in record 5: ");
+        assertThat(exc.getParsedString()).isEqualTo("2017-12-21T12:20:4xZ");
+        assertThat(exc.getCause()).isNotNull();
+
+        final DateTimeException leap = assertThrows(DateTimeException.class, () -> TimestampFieldReader.jsonField("ts").read(stream(NDJSON + "\n{\"ts\":\"2016-12-31T23:59:60Z\"}"), (record, epochSecond, nano) -> {
+        }));
+        assertThat(leap.getMessage()).startsWith("Invalid date-time in record 4: ");
+        assertThat(leap.getCause()).isInstanceOf(LeapSecondException.class);
+    }
+
+    @Test
+    void testLongRecordInSmallReads() throws IOException
+    {
+        final StringBuilder padding = new StringBuilder();
+        for (int i = 0; i < 10_000; i++)
+        {
+            padding.append("x");
+        }
+        final String data = "{\"pad\":\"" + padding + "\",\"ts\":\"2017-12-21T12:20:45Z\"}\r\n{\"ts\":\"2017-12-21T12:20:46Z\",\"pad\":\"" + padding + "\"}\n";
+        final ByteArrayInputStream bytes = stream(data);
+        // Delivers at most three bytes per read, so that records and line breaks are split across many reads
+        final InputStream trickle = new InputStream()
+        {
+            @Override
+            public int read()
+            {
+                return bytes.read();
+            }
+
+            @Override
+            public int read(final byte[] b, final int off, final int len)
+            {
+                return bytes.read(b, off, Math.min(len, 3));
+            }
+        };
+
+        final List<String> found = new ArrayList<>();
+        final long count = TimestampFieldReader.jsonField("ts").withBufferSize(16).read(trickle, collect(found));
+        assertThat(count).isEqualTo(2L);
+        assertThat(found).containsExactly("0=2017-12-21T12:20:45Z", "1=2017-12-21T12:20:46Z");
+    }
+
+    private static ByteArrayInputStream stream(final String data)
+    {
+        return new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static TimestampFieldReader.Sink collect(final List<String> found)
+    {
+        return (record, epochSecond, nano) -> found.add(record + "=" + Instant.ofEpochSecond(epochSecond, nano));
+    }
+}
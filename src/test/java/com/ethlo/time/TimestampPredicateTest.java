@@ -0,0 +1,131 @@
+package com.ethlo.time;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.DateTimeException;
+import java.time.format.DateTimeParseException;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class TimestampPredicateTest
+{
+    @Test
+    void testCompareSameLayout()
+    {
+        assertThat(ITU.compare("2024-03-01T00:00:00Z", "2024-03-01T00:00:01Z")).isNegative();
+        assertThat(ITU.compare("2024-03-01T00:00:01.5Z", "2024-03-01T00:00:01.4z")).isPositive();
+        assertThat(ITU.compare("2024-03-01t10:00:00+02:00", "2024-03-01T10:00:00+02:00")).isZero();
+    }
+
+    @Test
+    void testCompareDifferentOffsets()
+    {
+        assertThat(ITU.compare("2024-03-01T02:00:00+03:00", "2024-03-01T00:00:00Z")).isNegative();
+        assertThat(ITU.compare("2024-03-01T00:00:00-01:00", "2024-03-01T00:30:00Z")).isPositive();
+        assertThat(ITU.compare("2024-03-01T01:00:00+01:00", "2024-03-01T00:00:00Z")).isZero();
+    }
+
+    @Test
+    void testCompareDifferentFractionLength()
+    {
+        assertThat(ITU.compare("2024-03-01T00:00:00Z", "2024-03-01T00:00:00.1Z")).isNegative();
+        assertThat(ITU.compare("2024-03-01T00:00:00.10Z", "2024-03-01T00:00:00.1Z")).isZero();
+    }
+
+    @Test
+    void testCompareInvalid()
+    {
+        assertThrows(DateTimeParseException.class, () -> ITU.compare("2024-03-01T00:00:00Z", "2024-03-01"));
+        assertThrows(DateTimeParseException.class, () -> ITU.compare("2024-03-01T00:00:0xZ", "2024-03-01T00:00:01Z"));
+    }
+
+    @Test
+    void testCompareSecondsOutOfRangeSameLayout()
+    {
+        assertThrows(LeapSecondException.class, () -> ITU.compare("2016-12-31T23:59:60Z", "2016-12-31T23:59:59Z"));
+        assertThrows(DateTimeException.class, () -> ITU.compare("2024-03-01T00:00:60Z", "2024-03-01T00:00:59Z"));
+        assertThrows(DateTimeException.class, () -> ITU.compare("2024-03-01T00:00:00Z", "2024-03-01T00:00:61Z"));
+        assertThrows(LeapSecondException.class, () -> TimestampPredicate.after("2016-12-31T23:59:59Z").test("2016-12-31T23:59:60Z"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2024-13-01T00:00:00Z", "2024-00-01T00:00:00Z", "2023-02-29T00:00:00Z", "2024-04-31T00:00:00Z", "2024-12-01T99:00:00Z",
+            "2024-12-01T24:00:00Z", "2024-12-01T00:60:00Z", "20x4-12-01T00:00:00Z", "2024-12-01T00:00:00-00:00", "2024-12-01T00:00:00+19:00",
+            "2024-12-01T00:00:00+01:60", "2024-12-01T00:00:00.1x3Z", "2024-12-01T00:00:00.1234567890Z"})
+    void testCompareInvalidSameLayout(final String invalid)
+    {
+        final DateTimeException expected = assertThrows(DateTimeException.class, () -> ITU.parseDateTime(invalid));
+        final DateTimeException actual = assertThrows(DateTimeException.class, () -> ITU.compare(invalid, invalid));
+        assertThat(actual.getClass()).isEqualTo(expected.getClass());
+        assertThat(actual.getMessage()).isEqualTo(expected.getMessage());
+
+        if (invalid.length() == 20)
+        {
+            // Same length and offset as the valid value, so these would be compared on the text
+            final String valid = "2024-12-01T00:00:00Z";
+            assertThrows(DateTimeException.class, () -> ITU.compare(invalid, valid));
+            assertThrows(DateTimeException.class, () -> ITU.compare(valid, invalid));
+            assertThrows(DateTimeException.class, () -> TimestampPredicate.after(valid).test(invalid));
+        }
+    }
+
+    @Test
+    void testCompareOutOfRangeNotOrderedOnText()
+    {
+        assertThrows(DateTimeException.class, () -> ITU.compare("2024-13-01T99:00:00Z", "2024-12-01T00:00:00Z"));
+        assertThrows(DateTimeException.class, () -> TimestampPredicate.before("2024-12-01T00:00:00+01:00").test("2024-13-01T00:00:00+01:00"));
+    }
+
+    @Test
+    void testPredicates()
+    {
+        final String bound = "2024-03-01T00:00:00Z";
+        assertThat(TimestampPredicate.after(bound).test("2024-03-01T00:00:00.000000001Z")).isTrue();
+        assertThat(TimestampPredicate.after(bound).test("2024-03-01T00:00:00Z")).isFalse();
+        assertThat(TimestampPredicate.notBefore(bound).test("2024-03-01T01:00:00+01:00")).isTrue();
+        assertThat(TimestampPredicate.before(bound).test("2024-02-29T23:59:59Z")).isTrue();
+        assertThat(TimestampPredicate.before(bound).test("2024-03-01T00:59:59+01:00")).isTrue();
+        assertThat(TimestampPredicate.notAfter(bound).test("2024-03-01T00:00:00.001Z")).isFalse();
+        assertThat(TimestampPredicate.equalTo(bound).test("2024-02-29T19:00:00-05:00")).isTrue();
+    }
+
+    @Test
+    void testBetween()
+    {
+        final Predicate<CharSequence> predicate = TimestampPredicate.between("2024-03-01T00:00:00Z", "2024-03-02T00:00:00Z");
+        assertThat(predicate.test("2024-03-01T00:00:00Z")).isTrue();
+        assertThat(predicate.test("2024-03-01T23:59:59.999Z")).isTrue();
+        assertThat(predicate.test("2024-03-02T00:00:00Z")).isFalse();
+        assertThat(predicate.test(new StringBuilder("2024-03-02T00:59:59+01:00"))).isTrue();
+    }
+
+    @Test
+    void testInvalidBound()
+    {
+        assertThrows(DateTimeParseException.class, () -> TimestampPredicate.after("2024-03-01"));
+    }
+}
@@ -0,0 +1,76 @@
+package com.ethlo.time;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TimestampScannerTest
+{
+    private static final String LINE = "[2017-12-21T12:20:45.987Z] user 12017-01-01T00:00:00Z logged in at 2017-12-21 13:20:46+01:00, "
+            + "expires 2017-12-31T23:59Z, invalid 2017-02-30T00:00:00Z, date 2017-12-21, w3c 2017-12-21T12:20-05:00";
+
+    @Test
+    void testScanText()
+    {
+        final List<String> found = new ArrayList<>();
+        final int count = new TimestampScanner().scan(LINE, (start, end, epochSecond, nano) -> found.add(LINE.substring(start, end) + "=" + Instant.ofEpochSecond(epochSecond, nano)));
+        assertThat(count).isEqualTo(4);
+        assertThat(found).containsExactly(
+                "2017-12-21T12:20:45.987Z=2017-12-21T12:20:45.987Z",
+                "2017-12-21 13:20:46+01:00=2017-12-21T12:20:46Z",
+                "2017-12-31T23:59Z=2017-12-31T23:59:00Z",
+                "2017-12-21T12:20-05:00=2017-12-21T17:20:00Z");
+    }
+
+    @Test
+    void testScanBytes()
+    {
+        final byte[] buf = LINE.getBytes(StandardCharsets.US_ASCII);
+        final List<String> found = new ArrayList<>();
+        final int count = new TimestampScanner().scan(buf, 0, buf.length, (start, end, epochSecond, nano) -> found.add(new String(buf, start, end - start, StandardCharsets.US_ASCII)));
+        assertThat(count).isEqualTo(4);
+        assertThat(found).containsExactly("2017-12-21T12:20:45.987Z", "2017-12-21 13:20:46+01:00", "2017-12-31T23:59Z", "2017-12-21T12:20-05:00");
+    }
+
+    @Test
+    void testScanRegion()
+    {
+        final List<Integer> starts = new ArrayList<>();
+        final TimestampScanner scanner = new TimestampScanner();
+        assertThat(scanner.scan(LINE, 2, LINE.length(), (start, end, epochSecond, nano) -> starts.add(start))).isEqualTo(3);
+        assertThat(scanner.scan(LINE, 0, 10, (start, end, epochSecond, nano) -> starts.add(start))).isEqualTo(0);
+    }
+
+    @Test
+    void testNoTimestamps()
+    {
+        assertThat(new TimestampScanner().scan("nothing to see 2017-12 here", (start, end, epochSecond, nano) -> {
+            throw new AssertionError("Unexpected match");
+        })).isEqualTo(0);
+    }
+}
@@ -0,0 +1,114 @@
+package com.ethlo.time;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.Test;
+
+public class Utf8FormatterTest
+{
+    private final OffsetDateTime date = OffsetDateTime.parse("2017-02-21T10:00:00.123456789+12:00");
+
+    @Test
+    void sameAsStringFormatting()
+    {
+        for (int fractionDigits = 0; fractionDigits <= 9; fractionDigits++)
+        {
+            assertThat(text(Utf8Formatter.utc(fractionDigits).toBytes(date))).isEqualTo(ITU.formatUtc(date, fractionDigits));
+            assertThat(text(Utf8Formatter.sameOffset(fractionDigits).toBytes(date))).isEqualTo(ITU.format(date, fractionDigits));
+        }
+        for (final Field field : new Field[]{Field.YEAR, Field.MONTH, Field.DAY, Field.MINUTE, Field.SECOND})
+        {
+            assertThat(text(Utf8Formatter.utc(field).toBytes(date))).isEqualTo(ITU.formatUtc(date, field));
+        }
+    }
+
+    @Test
+    void sameAsStringFormattingRandom()
+    {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < 10_000; i++)
+        {
+            final ZoneOffset offset = ZoneOffset.ofTotalSeconds(random.nextInt(-18 * 60, 18 * 60 + 1) * 60);
+            final OffsetDateTime value = OffsetDateTime.of(random.nextInt(1, 9999), random.nextInt(1, 13), random.nextInt(1, 29), random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1_000_000_000), offset);
+            final int fractionDigits = random.nextInt(10);
+            assertThat(text(Utf8Formatter.sameOffset(fractionDigits).toBytes(value))).isEqualTo(ITU.format(value, fractionDigits));
+        }
+    }
+
+    @Test
+    void quoted()
+    {
+        final Utf8Formatter formatter = Utf8Formatter.utc(3).withQuotes();
+        final byte[] buffer = new byte[40];
+        buffer[0] = ':';
+        final int end = formatter.write(date, buffer, 1);
+        assertThat(new String(buffer, 0, end, StandardCharsets.US_ASCII)).isEqualTo(":\"2017-02-20T22:00:00.123Z\"");
+        assertThat(end).isEqualTo(1 + formatter.length(date));
+    }
+
+    @Test
+    void writeToHeapByteBuffer()
+    {
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        buffer.put((byte) '[');
+        Utf8Formatter.sameOffset(0).withQuotes().write(date, buffer);
+        buffer.flip();
+        assertThat(StandardCharsets.US_ASCII.decode(buffer).toString()).isEqualTo("[\"2017-02-21T10:00:00+12:00\"");
+    }
+
+    @Test
+    void writeToDirectByteBuffer()
+    {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+        Utf8Formatter.utc(9).write(date, buffer);
+        buffer.flip();
+        assertThat(StandardCharsets.US_ASCII.decode(buffer).toString()).isEqualTo(ITU.formatUtcNano(date));
+    }
+
+    @Test
+    void bufferTooSmall()
+    {
+        assertThrows(IndexOutOfBoundsException.class, () -> Utf8Formatter.utc(0).write(date, new byte[25], 6));
+        assertThrows(BufferOverflowException.class, () -> Utf8Formatter.utc(0).write(date, ByteBuffer.allocate(19)));
+    }
+
+    @Test
+    void tooManyFractionDigits()
+    {
+        assertThrows(DateTimeException.class, () -> Utf8Formatter.utc(10).toBytes(date));
+    }
+
+    private static String text(final byte[] bytes)
+    {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,211 @@
+package com.ethlo.time.internal.events;
+
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+class TimeEventsTest
+{
+    private static final String VERSIONS = "/META-INF/versions/11/";
+    private static final String FAILURE = "com.ethlo.time.Failure";
+    private static final String BATCH = "com.ethlo.time.Batch";
+
+    @Test
+    void testEventsRecorded() throws Throwable
+    {
+        final Class<?> versioned = versionedTimeEvents();
+        final MethodHandle failed = failed(versioned);
+        final MethodHandle beginBatch = MethodHandles.publicLookup().findStatic(versioned, "beginBatch", MethodType.methodType(Object.class));
+        final MethodHandle endBatch = MethodHandles.publicLookup().findStatic(versioned, "endBatch", MethodType.methodType(void.class, Object.class, String.class, long.class, long.class));
+
+        final StringBuilder input = new StringBuilder("2017-12-21T12:20:45x");
+        while (input.length() < 1000)
+        {
+            input.append(" trailing");
+        }
+
+        final List<RecordedEvent> events = record(() ->
+        {
+            for (int i = 0; i < 1000; i++)
+            {
+                failed.invoke(TimeEvents.PARSE_DATE_TIME, input, new DateTimeException("Invalid"));
+            }
+            final Object batch = beginBatch.invoke();
+            endBatch.invoke(batch, TimeEvents.SCAN, 3L, 60L);
+        });
+
+        final List<RecordedEvent> failures = events.stream().filter(e -> e.getEventType().getName().equals(FAILURE)).collect(Collectors.toList());
+        // The limit applies per second, and the loop may cross a second boundary
+        assertThat(failures.size()).isGreaterThan(0);
+        assertThat(failures.size()).isLessThan(2 * TimeEvents.DEFAULT_MAX_FAILURES_PER_SECOND + 1);
+        final RecordedEvent failure = failures.get(0);
+        assertThat(failure.getString("operation")).isEqualTo(TimeEvents.PARSE_DATE_TIME);
+        assertThat(failure.getString("input")).isEqualTo(input.substring(0, 256));
+        assertThat(failure.getString("errorType")).isEqualTo(DateTimeException.class.getName());
+        assertThat(failure.getString("message")).isEqualTo("Invalid");
+
+        final List<RecordedEvent> batches = events.stream().filter(e -> e.getEventType().getName().equals(BATCH)).collect(Collectors.toList());
+        assertThat(batches.size()).isEqualTo(1);
+        assertThat(batches.get(0).getString("operation")).isEqualTo(TimeEvents.SCAN);
+        assertThat(batches.get(0).getLong("count")).isEqualTo(3L);
+        assertThat(batches.get(0).getLong("size")).isEqualTo(60L);
+    }
+
+    @Test
+    void testNothingRenderedWhenNotRecording() throws Throwable
+    {
+        final MethodHandle failed = failed(versionedTimeEvents());
+        final Object input = new Object()
+        {
+            @Override
+            public String toString()
+            {
+                throw new AssertionError("Input rendered");
+            }
+        };
+        final DateTimeException exc = new DateTimeException("")
+        {
+            @Override
+            public String getMessage()
+            {
+                throw new AssertionError("Message rendered");
+            }
+        };
+        failed.invoke(TimeEvents.FORMAT, input, exc);
+    }
+
+    private static MethodHandle failed(final Class<?> versioned) throws ReflectiveOperationException
+    {
+        return MethodHandles.publicLookup().findStatic(versioned, "failed", MethodType.methodType(void.class, String.class, Object.class, RuntimeException.class));
+    }
+
+    private static Class<?> versionedTimeEvents() throws ClassNotFoundException
+    {
+        assumeTrue(TimeEvents.class.getResource(VERSIONS + TimeEvents.class.getName().replace('.', '/') + ".class") != null
+                && !System.getProperty("java.specification.version").startsWith("1."), "Java 11 version of TimeEvents not available");
+        final Class<?> versioned = new VersionedLoader().loadClass(TimeEvents.class.getName());
+        assertThat(versioned == TimeEvents.class).isFalse();
+        return versioned;
+    }
+
+    private static List<RecordedEvent> record(final Action action) throws Throwable
+    {
+        final Path file = Files.createTempFile("itu-events", ".jfr");
+        try
+        {
+            try (Recording recording = new Recording())
+            {
+                recording.enable(FAILURE);
+                recording.enable(BATCH).withThreshold(Duration.ZERO);
+                recording.start();
+                action.run();
+                recording.stop();
+                recording.dump(file);
+            }
+            return RecordingFile.readAllEvents(file);
+        }
+        finally
+        {
+            Files.delete(file);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Action
+    {
+        void run() throws Throwable;
+    }
+
+    /**
+     * Loads the Java 11 version of TimeEvents and its nested classes, and everything else from the parent
+     */
+    private static class VersionedLoader extends ClassLoader
+    {
+        private VersionedLoader()
+        {
+            super(TimeEventsTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException
+        {
+            if (!name.startsWith(TimeEvents.class.getName()))
+            {
+                return super.loadClass(name, resolve);
+            }
+
+            synchronized (getClassLoadingLock(name))
+            {
+                final Class<?> loaded = findLoadedClass(name);
+                if (loaded != null)
+                {
+                    return loaded;
+                }
+                final byte[] bytes = read(TimeEvents.class.getResource(VERSIONS + name.replace('.', '/') + ".class"));
+                return defineClass(name, bytes, 0, bytes.length);
+            }
+        }
+
+        private static byte[] read(final URL resource) throws ClassNotFoundException
+        {
+            if (resource == null)
+            {
+                throw new ClassNotFoundException("No versioned class");
+            }
+            try (InputStream in = resource.openStream())
+            {
+                final ByteArrayOutputStream out = new ByteArrayOutputStream();
+                final byte[] buffer = new byte[4096];
+                int read;
+                while ((read = in.read(buffer)) != -1)
+                {
+                    out.write(buffer, 0, read);
+                }
+                return out.toByteArray();
+            }
+            catch (IOException exc)
+            {
+                throw new ClassNotFoundException(resource.toString(), exc);
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.ethlo.time.internal.util;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class AsciiDigitsTest
+{
+    private static final String VERSIONED = "/META-INF/versions/17/com/ethlo/time/internal/util/AsciiDigits.class";
+    private static final byte[] TEMPLATE = bytes("2017-12-21T23:59:58Z12");
+    @Test
+    void testReadDate()
+    {
+        assertThat(AsciiDigits.readDate(bytes("x2017-12-21"), 1)).isEqualTo(20171221);
+        assertThat(AsciiDigits.readDate(bytes("0000-00-00"), 0)).isEqualTo(0);
+        assertThat(AsciiDigits.readDate(bytes("2017/12-21"), 0)).isEqualTo(-1);
+        assertThat(AsciiDigits.readDate(bytes("2017-12-2a"), 0)).isEqualTo(-1);
+        assertThat(AsciiDigits.readDate(bytes("2017-1:-21"), 0)).isEqualTo(-1);
+    }
+
+    @Test
+    void testReadTime()
+    {
+        assertThat(AsciiDigits.readTime(bytes("T23:59:58Z"), 1)).isEqualTo(235958);
+        assertThat(AsciiDigits.readTime(bytes("23-59:58"), 0)).isEqualTo(-1);
+        assertThat(AsciiDigits.readTime(bytes("23:5/:58"), 0)).isEqualTo(-1);
+    }
+
+    @Test
+    void testDigits2()
+    {
+        assertThat(AsciiDigits.digits2(bytes("09"), 0)).isEqualTo(9);
+        assertThat(AsciiDigits.digits2(bytes("9:"), 0)).isEqualTo(-1);
+    }
+
+    /**
+     * The tests run against the class directories, where the Java 17 version is not picked up in place of the Java 8 version, so load it explicitly
+     */
+    @Test
+    void testJava17VersionSameAsJava8Version() throws Throwable
+    {
+        final URL resource = AsciiDigits.class.getResource(VERSIONED);
+        assumeTrue(resource != null && !System.getProperty("java.specification.version").startsWith("1.")
+                && Integer.parseInt(System.getProperty("java.specification.version")) >= 17, "Java 17 version of AsciiDigits not available");
+
+        final Class<?> versioned = new VersionedLoader().define(AsciiDigits.class.getName(), read(resource));
+        assertThat(versioned == AsciiDigits.class).isFalse();
+        final MethodType type = MethodType.methodType(int.class, byte[].class, int.class);
+        final MethodHandle readDate = MethodHandles.publicLookup().findStatic(versioned, "readDate", type);
+        final MethodHandle readTime = MethodHandles.publicLookup().findStatic(versioned, "readTime", type);
+        final MethodHandle digits2 = MethodHandles.publicLookup().findStatic(versioned, "digits2", type);
+
+        final Random random = new Random(20171221);
+        final byte[] buf = new byte[TEMPLATE.length];
+        for (int i = 0; i < 2_000_000; i++)
+        {
+            randomize(random, buf);
+            final int dateOffset = random.nextInt(buf.length - 9);
+            final int timeOffset = random.nextInt(buf.length - 7);
+            final int digitsOffset = random.nextInt(buf.length - 1);
+            final int date = (int) readDate.invokeExact(buf, dateOffset);
+            final int time = (int) readTime.invokeExact(buf, timeOffset);
+            final int digits = (int) digits2.invokeExact(buf, digitsOffset);
+            if (date != AsciiDigits.readDate(buf, dateOffset) || time != AsciiDigits.readTime(buf, timeOffset) || digits != AsciiDigits.digits2(buf, digitsOffset))
+            {
+                assertThat(new String(buf, StandardCharsets.ISO_8859_1) + " " + date + " " + time + " " + digits)
+                        .isEqualTo(new String(buf, StandardCharsets.ISO_8859_1) + " " + AsciiDigits.readDate(buf, dateOffset) + " " + AsciiDigits.readTime(buf, timeOffset) + " "
+                                + AsciiDigits.digits2(buf, digitsOffset));
+            }
+        }
+    }
+
+    /**
+     * A date-time with random digits, and usually one or two bytes replaced by a random byte, to cover both valid and invalid input
+     */
+    private static void randomize(final Random random, final byte[] buf)
+    {
+        for (int i = 0; i < buf.length; i++)
+        {
+            final byte b = TEMPLATE[i];
+            buf[i] = b >= '0' && b <= '9' ? (byte) ('0' + random.nextInt(10)) : b;
+        }
+        final int replaced = random.nextInt(3);
+        for (int i = 0; i < replaced; i++)
+        {
+            buf[random.nextInt(buf.length)] = (byte) random.nextInt(256);
+        }
+    }
+
+    private static byte[] read(final URL resource) throws IOException
+    {
+        try (InputStream in = resource.openStream())
+        {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] chunk = new byte[4096];
+            int read;
+            while ((read = in.read(chunk)) != -1)
+            {
+                out.write(chunk, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private static class VersionedLoader extends ClassLoader
+    {
+        private VersionedLoader()
+        {
+            super(AsciiDigitsTest.class.getClassLoader());
+        }
+
+        private Class<?> define(final String name, final byte[] bytes)
+        {
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+
+    private static byte[] bytes(final String text)
+    {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+}
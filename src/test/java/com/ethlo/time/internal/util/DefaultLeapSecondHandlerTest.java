@@ -0,0 +1,76 @@
+package com.ethlo.time.internal.util;
+
+/*-
+ * #%L
+ * Internet Time Utility
+ * %%
+ * Copyright (C) 2017 - 2025 Morten Haraldsen @ethlo
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.ethlo.time.LeapSecondHandler;
+
+class DefaultLeapSecondHandlerTest
+{
+    private final LeapSecondHandler handler = new DefaultLeapSecondHandler();
+
+    @Test
+    void testKnownLeapSecondMonths()
+    {
+        assertThat(handler.isValidLeapSecondDate(1972, 6)).isTrue();
+        assertThat(handler.isValidLeapSecondDate(1979, 12)).isTrue();
+        assertThat(handler.isValidLeapSecondDate(1987, 12)).isTrue();
+        assertThat(handler.isValidLeapSecondDate(2016, 12)).isTrue();
+        assertThat(handler.isValidLeapSecondDate(YearMonth.of(2015, 6))).isTrue();
+    }
+
+    @Test
+    void testMonthsWithoutLeapSecond()
+    {
+        assertThat(handler.isValidLeapSecondDate(1971, 12)).isFalse();
+        assertThat(handler.isValidLeapSecondDate(1988, 12)).isFalse();
+        assertThat(handler.isValidLeapSecondDate(2016, 6)).isFalse();
+        assertThat(handler.isValidLeapSecondDate(2017, 12)).isFalse();
+        assertThat(handler.isValidLeapSecondDate(YearMonth.of(2000, 12))).isFalse();
+    }
+
+    @Test
+    void testLastKnownLeapSecond()
+    {
+        assertThat(handler.getLastKnownLeapSecond()).isEqualTo(YearMonth.of(2016, 12));
+        assertThat(handler.isAfterLastKnownLeapSecond(2016, 12)).isFalse();
+        assertThat(handler.isAfterLastKnownLeapSecond(2017, 1)).isTrue();
+        assertThat(handler.isAfterLastKnownLeapSecond(1990, 6)).isFalse();
+    }
+
+    @Test
+    void testCompiledTableMatchesCsv()
+    {
+        final List<YearMonth> compiled = new ArrayList<>();
+        for (int value : LeapSecondTable.MONTHS)
+        {
+            compiled.add(YearMonth.of(value / 100, value % 100));
+        }
+        assertThat(compiled).isEqualTo(DefaultLeapSecondHandler.readDefaultCsv());
+    }
+}
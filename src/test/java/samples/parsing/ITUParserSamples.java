@@ -108,6 +108,19 @@ class ITUParserSamples
         assertThat(pos.getIndex()).isEqualTo(35);
     }
 
+    /*
+     Parse a date-time at the start of a line, without copying it out first. Reading stops at the end of the date-time, and the number of characters read is available from `getParseLength()`.
+     */
+    @Test
+    void parsePrefix()
+    {
+        final String line = "2024-01-01T00:00:00Z INFO Application started";
+        final ParseConfig config = ParseConfig.DEFAULT.withFailOnTrailingJunk(false);
+        final DateTime dateTime = ITU.parseLenient(line, config);
+        assertThat(dateTime.toString()).isEqualTo("2024-01-01T00:00:00Z");
+        assertThat(line.substring(dateTime.getParseLength() + 1)).isEqualTo("INFO Application started");
+    }
+
     /*
      This is useful if you need to handle different granularity with different logic or interpolation.
      */